@@ -0,0 +1,409 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.bench;
+
+import de.martinkade.graph.DuplicateNodeException;
+import de.martinkade.graph.Graph;
+import de.martinkade.graph.Node;
+import de.martinkade.graph.search.navigation.City;
+import de.martinkade.graph.search.navigation.HaversineEstimator;
+import de.martinkade.graph.search.navigation.Highway;
+
+import java.util.Random;
+
+/**
+ * Reproducible generators of synthetic road networks. The same type, size and
+ * seed always result in the same graph.
+ * <p/>
+ * All nodes are placed within a bounding box of about the size of Germany and
+ * all edges are bidirectional. The length of an edge is at least the
+ * great-circle distance of its end points, so a {@link HaversineEstimator}
+ * stays admissible on every generated graph.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public final class GraphGenerator {
+
+    /**
+     * The supported kinds of graphs.
+     */
+    public enum Type {
+
+        /**
+         * A 2D grid with 4-neighbourhood.
+         */
+        GRID,
+        /**
+         * A random geometric graph connecting all points within a radius.
+         */
+        GEOMETRIC,
+        /**
+         * A planar grid with fast arterial roads, missing local streets and a
+         * few diagonals.
+         */
+        ROAD,
+        /**
+         * A scale-free graph grown by preferential attachment.
+         */
+        SCALE_FREE
+    }
+
+    /**
+     * The bounding box of the generated coordinates in degrees.
+     */
+    private static final double MIN_LATITUDE = 47.0d, LATITUDE_SPAN = 8.0d,
+            MIN_LONGITUDE = 6.0d, LONGITUDE_SPAN = 9.0d;
+
+    /**
+     * The expected degree of a node of a random geometric graph.
+     */
+    private static final double GEOMETRIC_DEGREE = 8.0d;
+
+    /**
+     * Every n-th row and column of a road-like graph is an arterial road.
+     */
+    private static final int ARTERIAL_SPACING = 8;
+
+    /**
+     * The probability of a local street of a road-like graph to be missing.
+     */
+    private static final double MISSING_STREET_PROBABILITY = 0.3d;
+
+    /**
+     * The probability of a block of a road-like graph to have a diagonal.
+     */
+    private static final double DIAGONAL_PROBABILITY = 0.1d;
+
+    /**
+     * The number of edges a new node of a scale-free graph attaches with.
+     */
+    private static final int ATTACHED_EDGES = 3;
+
+    /**
+     * Utility class.
+     */
+    private GraphGenerator() {
+        // empty
+    }
+
+    /**
+     *
+     * @param type The kind of graph
+     * @param size The number of nodes
+     * @param seed The seed of the random number generator
+     * @return The generated graph
+     */
+    public static Graph<City, Highway> generate(Type type, int size, long seed) {
+        switch (type) {
+            case GRID:
+                return grid(size, seed);
+            case GEOMETRIC:
+                return geometric(size, seed);
+            case ROAD:
+                return road(size, seed);
+            case SCALE_FREE:
+                return scaleFree(size, seed);
+            default:
+                throw new IllegalArgumentException(String.format("unknown graph type '%s'", type));
+        }
+    }
+
+    /**
+     *
+     * @param size The number of nodes
+     * @param seed The seed of the random number generator
+     * @return A 2D grid, the last row may be incomplete
+     */
+    public static Graph<City, Highway> grid(int size, long seed) {
+        final Builder builder = new Builder(size, seed);
+        final int width = builder.layoutGrid(0.1d);
+        for (int i = 0; i < size; i++) {
+            if ((i + 1) % width != 0 && i + 1 < size) {
+                builder.connect(i, i + 1, "grid", 0.2d);
+            }
+            if (i + width < size) {
+                builder.connect(i, i + width, "grid", 0.2d);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Random points get connected if they are closer than a radius chosen for
+     * an expected degree of {@value #GEOMETRIC_DEGREE}. The graph is not
+     * necessarily connected.
+     *
+     * @param size The number of nodes
+     * @param seed The seed of the random number generator
+     * @return A random geometric graph
+     */
+    public static Graph<City, Highway> geometric(int size, long seed) {
+        final Builder builder = new Builder(size, seed);
+        final double[] x = new double[size], y = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = builder.random.nextDouble();
+            y[i] = builder.random.nextDouble();
+            builder.place(i, x[i], y[i]);
+        }
+
+        // bucket the points into cells of the radius, so only neighbouring cells need to be compared
+        final double radius = Math.sqrt(GEOMETRIC_DEGREE / (Math.PI * size));
+        final int cells = Math.max(1, (int) (1.0d / radius));
+        final int[] cellStart = new int[cells * cells + 1];
+        final int[] cell = new int[size];
+        for (int i = 0; i < size; i++) {
+            cell[i] = cellOf(y[i], cells) * cells + cellOf(x[i], cells);
+            cellStart[cell[i] + 1]++;
+        }
+        for (int c = 0; c < cells * cells; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        final int[] members = new int[size];
+        final int[] fill = new int[cells * cells];
+        for (int i = 0; i < size; i++) {
+            members[cellStart[cell[i]] + fill[cell[i]]++] = i;
+        }
+
+        final double squaredRadius = radius * radius;
+        for (int i = 0; i < size; i++) {
+            final int row = cell[i] / cells, column = cell[i] % cells;
+            for (int r = Math.max(0, row - 1); r <= Math.min(cells - 1, row + 1); r++) {
+                for (int c = Math.max(0, column - 1); c <= Math.min(cells - 1, column + 1); c++) {
+                    for (int k = cellStart[r * cells + c]; k < cellStart[r * cells + c + 1]; k++) {
+                        final int j = members[k];
+                        final double dx = x[i] - x[j], dy = y[i] - y[j];
+                        if (j > i && dx * dx + dy * dy <= squaredRadius) {
+                            builder.connect(i, j, "geometric", 0.2d);
+                        }
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * A jittered grid where every {@value #ARTERIAL_SPACING}th row and column
+     * is an almost straight arterial road. Local streets are slower, some of
+     * the horizontal ones are missing and some blocks are crossed by a single
+     * diagonal. The graph stays planar and connected because all vertical
+     * streets and all arterial roads are kept.
+     *
+     * @param size The number of nodes
+     * @param seed The seed of the random number generator
+     * @return A road-like planar graph
+     */
+    public static Graph<City, Highway> road(int size, long seed) {
+        final Builder builder = new Builder(size, seed);
+        final int width = builder.layoutGrid(0.3d);
+        for (int i = 0; i < size; i++) {
+            final int row = i / width, column = i % width;
+            if (column + 1 < width && i + 1 < size) {
+                if (row % ARTERIAL_SPACING == 0) {
+                    builder.connect(i, i + 1, "arterial", 0.05d);
+                } else if (builder.random.nextDouble() >= MISSING_STREET_PROBABILITY) {
+                    builder.connect(i, i + 1, "street", 0.5d);
+                }
+            }
+            if (i + width < size) {
+                if (column % ARTERIAL_SPACING == 0) {
+                    builder.connect(i, i + width, "arterial", 0.05d);
+                } else {
+                    builder.connect(i, i + width, "street", 0.5d);
+                }
+            }
+            if (column + 1 < width && i + width + 1 < size
+                    && builder.random.nextDouble() < DIAGONAL_PROBABILITY) {
+                if (builder.random.nextBoolean()) {
+                    builder.connect(i, i + width + 1, "street", 0.5d);
+                } else {
+                    builder.connect(i + 1, i + width, "street", 0.5d);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Barabási-Albert preferential attachment: every new node gets connected
+     * to {@value #ATTACHED_EDGES} distinct existing nodes, chosen with a
+     * probability proportional to their degree.
+     *
+     * @param size The number of nodes
+     * @param seed The seed of the random number generator
+     * @return A scale-free graph
+     */
+    public static Graph<City, Highway> scaleFree(int size, long seed) {
+        final Builder builder = new Builder(size, seed);
+        for (int i = 0; i < size; i++) {
+            builder.place(i, builder.random.nextDouble(), builder.random.nextDouble());
+        }
+
+        // every edge contributes both end points, so sampling an entry is proportional to the degree
+        final int initial = Math.min(size, ATTACHED_EDGES + 1);
+        final int[] endpoints = new int[initial * (initial - 1) + 2 * ATTACHED_EDGES * (size - initial)];
+        int count = 0;
+        for (int i = 0; i < initial; i++) {
+            for (int j = i + 1; j < initial; j++) {
+                builder.connect(i, j, "link", 0.2d);
+                endpoints[count++] = i;
+                endpoints[count++] = j;
+            }
+        }
+        final int[] chosen = new int[ATTACHED_EDGES];
+        for (int i = initial; i < size; i++) {
+            final int edges = count;
+            for (int k = 0; k < ATTACHED_EDGES; k++) {
+                int target;
+                do {
+                    target = endpoints[builder.random.nextInt(edges)];
+                } while (contains(chosen, k, target));
+                chosen[k] = target;
+                builder.connect(i, target, "link", 0.2d);
+                endpoints[count++] = i;
+                endpoints[count++] = target;
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     *
+     * @param coordinate A coordinate in [0, 1)
+     * @param cells The number of cells per dimension
+     * @return The cell of the coordinate
+     */
+    private static int cellOf(double coordinate, int cells) {
+        return Math.min(cells - 1, (int) (coordinate * cells));
+    }
+
+    /**
+     *
+     * @param values The values
+     * @param length The number of values to look at
+     * @param value The value to look for
+     * @return True if one of the first values equals the value
+     */
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects the nodes of a graph under construction.
+     */
+    private static final class Builder {
+
+        /**
+         * The random number generator of the graph.
+         */
+        private final Random random;
+
+        /**
+         * The nodes by their future id.
+         */
+        private final Node<City, Highway>[] nodes;
+
+        /**
+         *
+         * @param size The number of nodes
+         * @param seed The seed of the random number generator
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Builder(int size, long seed) {
+            if (size < 2) {
+                throw new IllegalArgumentException(String.format("at least 2 nodes required: %d", size));
+            }
+            random = new Random(seed);
+            nodes = new Node[size];
+        }
+
+        /**
+         * Place the nodes row by row on a square grid with some jitter.
+         *
+         * @param jitter The maximum displacement in cells
+         * @return The number of columns
+         */
+        private int layoutGrid(double jitter) {
+            final int width = (int) Math.ceil(Math.sqrt(nodes.length));
+            final int height = (nodes.length + width - 1) / width;
+            for (int i = 0; i < nodes.length; i++) {
+                final double dx = (random.nextDouble() * 2.0d - 1.0d) * jitter;
+                final double dy = (random.nextDouble() * 2.0d - 1.0d) * jitter;
+                place(i, (i % width + 0.5d + dx) / width, (i / width + 0.5d + dy) / height);
+            }
+            return width;
+        }
+
+        /**
+         *
+         * @param i The id of the node
+         * @param x The relative position from west to east in [0, 1)
+         * @param y The relative position from south to north in [0, 1)
+         */
+        private void place(int i, double x, double y) {
+            nodes[i] = new Node<>(new City(String.valueOf(i),
+                    MIN_LATITUDE + y * LATITUDE_SPAN, MIN_LONGITUDE + x * LONGITUDE_SPAN));
+        }
+
+        /**
+         * Connect two nodes in both directions by an edge that is up to a
+         * given fraction longer than the great-circle distance.
+         *
+         * @param i The id of one node
+         * @param j The id of the other node
+         * @param name The name of the edge
+         * @param detour The maximum relative detour
+         */
+        private void connect(int i, int j, String name, double detour) {
+            final City a = nodes[i].getContent(), b = nodes[j].getContent();
+            final double length = HaversineEstimator.distance(a.getLatitude(), a.getLongitude(),
+                    b.getLatitude(), b.getLongitude()) * (1.0d + random.nextDouble() * detour);
+            final Highway highway = new Highway(name, length);
+            try {
+                nodes[i].addSuccessor(nodes[j], highway);
+                nodes[j].addSuccessor(nodes[i], highway);
+            } catch (DuplicateNodeException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        /**
+         *
+         * @return The graph of all nodes, their ids match the ones used here
+         */
+        private Graph<City, Highway> build() {
+            final Graph<City, Highway> graph = new Graph<>();
+            for (Node<City, Highway> node : nodes) {
+                graph.addNode(node);
+            }
+            return graph;
+        }
+    }
+}
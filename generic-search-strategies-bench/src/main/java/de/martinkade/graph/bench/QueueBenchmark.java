@@ -0,0 +1,107 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.bench;
+
+import de.martinkade.graph.CompactGraph;
+import de.martinkade.graph.search.Dijkstra;
+import de.martinkade.graph.search.QueueType;
+import de.martinkade.graph.search.navigation.City;
+import de.martinkade.graph.search.navigation.Highway;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One-to-all {@link Dijkstra} searches with the binary heap against the
+ * monotone queues, see {@link QueueType}. The generated weights are rounded to
+ * whole metres, so every queue computes the same costs.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueueBenchmark {
+
+    /**
+     * The seed of the graph.
+     */
+    private static final long SEED = 20151007L;
+
+    /**
+     * The kind of graph.
+     */
+    @Param({"GRID", "ROAD", "SCALE_FREE"})
+    public GraphGenerator.Type type;
+
+    /**
+     * The number of nodes.
+     */
+    @Param({"100000", "1000000"})
+    public int size;
+
+    /**
+     * The queue of the search.
+     */
+    @Param({"BINARY_HEAP", "RADIX_HEAP", "BUCKET_QUEUE"})
+    public QueueType queue;
+
+    /**
+     * The compiled graph with integer weights.
+     */
+    private CompactGraph<City, Highway> graph;
+
+    /**
+     * Generate the graph and round its weights from kilometres to metres.
+     */
+    @Setup
+    public void setup() {
+        final CompactGraph<City, Highway> generated = GraphGenerator.generate(type, size, SEED).compile();
+        final double[] weights = new double[generated.edgeCount()];
+        for (int e = 0; e < weights.length; e++) {
+            weights[e] = Math.rint(generated.getWeight(e) * 1000.0d);
+        }
+        graph = generated.withWeights(weights);
+    }
+
+    @Benchmark
+    public double[] dijkstra() {
+        return Dijkstra.distances(graph, 0, queue, 1.0d);
+    }
+}
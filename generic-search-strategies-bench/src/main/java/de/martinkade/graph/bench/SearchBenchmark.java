@@ -0,0 +1,173 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.bench;
+
+import de.martinkade.graph.CompactGraph;
+import de.martinkade.graph.Node;
+import de.martinkade.graph.Path;
+import de.martinkade.graph.search.AStar;
+import de.martinkade.graph.search.BreadthFirst;
+import de.martinkade.graph.search.DepthFirst;
+import de.martinkade.graph.search.Dijkstra;
+import de.martinkade.graph.search.navigation.City;
+import de.martinkade.graph.search.navigation.HaversineEstimator;
+import de.martinkade.graph.search.navigation.Highway;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Point-to-point queries of the search strategies on generated graphs, see
+ * {@link GraphGenerator}. Each invocation answers the next one of a fixed set
+ * of random queries.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    /**
+     * The number of distinct queries.
+     */
+    private static final int QUERIES = 64;
+
+    /**
+     * The seed of both the graph and the queries.
+     */
+    private static final long SEED = 20151007L;
+
+    /**
+     * The kind of graph.
+     */
+    @Param({"GRID", "GEOMETRIC", "ROAD", "SCALE_FREE"})
+    public GraphGenerator.Type type;
+
+    /**
+     * The number of nodes, graphs of 10^7 nodes need a heap of several
+     * gigabytes.
+     */
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    /**
+     * The compiled graph.
+     */
+    private CompactGraph<City, Highway> graph;
+
+    /**
+     * The start and target nodes of the queries.
+     */
+    private Node<City, Highway>[] startNodes, targetNodes;
+
+    /**
+     * Keeps the logger of the strategies quiet, it would dominate the
+     * measurements otherwise.
+     */
+    private Logger logger;
+
+    /**
+     * Generate the graph and the queries.
+     */
+    @Setup
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setup() {
+        logger = Logger.getLogger("de.martinkade.graph");
+        logger.setLevel(Level.WARNING);
+
+        graph = GraphGenerator.generate(type, size, SEED).compile();
+        startNodes = new Node[QUERIES];
+        targetNodes = new Node[QUERIES];
+        final Random random = new Random(SEED);
+        for (int i = 0; i < QUERIES; i++) {
+            startNodes[i] = graph.getNode(random.nextInt(size));
+            targetNodes[i] = graph.getNode(random.nextInt(size));
+        }
+    }
+
+    /**
+     * The position within the queries of a benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        /**
+         * The index of the next query.
+         */
+        private int next;
+
+        /**
+         *
+         * @return The index of the query to answer now
+         */
+        private int next() {
+            final int query = next;
+            next = (query + 1) % QUERIES;
+            return query;
+        }
+    }
+
+    @Benchmark
+    public Path<City, Highway> dijkstra(Cursor cursor) {
+        final int query = cursor.next();
+        return new Dijkstra<>(startNodes[query]).execute(graph, targetNodes[query]);
+    }
+
+    @Benchmark
+    public Path<City, Highway> aStar(Cursor cursor) {
+        final int query = cursor.next();
+        return new AStar<>(startNodes[query], new HaversineEstimator()).execute(graph, targetNodes[query]);
+    }
+
+    @Benchmark
+    public Path<City, Highway> breadthFirst(Cursor cursor) {
+        final int query = cursor.next();
+        return new BreadthFirst<>(startNodes[query]).execute(graph, targetNodes[query]);
+    }
+
+    @Benchmark
+    public Path<City, Highway> depthFirst(Cursor cursor) {
+        final int query = cursor.next();
+        return new DepthFirst<>(startNodes[query]).execute(graph, targetNodes[query]);
+    }
+}
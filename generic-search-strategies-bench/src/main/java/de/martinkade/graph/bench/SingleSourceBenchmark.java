@@ -0,0 +1,100 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.bench;
+
+import de.martinkade.graph.CompactGraph;
+import de.martinkade.graph.search.DeltaStepping;
+import de.martinkade.graph.search.Dijkstra;
+import de.martinkade.graph.search.navigation.City;
+import de.martinkade.graph.search.navigation.Highway;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One-to-all searches of sequential {@link Dijkstra} against parallel
+ * {@link DeltaStepping} on generated graphs, see {@link GraphGenerator}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SingleSourceBenchmark {
+
+    /**
+     * The seed of the graph.
+     */
+    private static final long SEED = 20151007L;
+
+    /**
+     * The kind of graph.
+     */
+    @Param({"GRID", "ROAD", "SCALE_FREE"})
+    public GraphGenerator.Type type;
+
+    /**
+     * The number of nodes.
+     */
+    @Param({"100000", "1000000"})
+    public int size;
+
+    /**
+     * The compiled graph.
+     */
+    private CompactGraph<City, Highway> graph;
+
+    /**
+     * Generate the graph.
+     */
+    @Setup
+    public void setup() {
+        graph = GraphGenerator.generate(type, size, SEED).compile();
+    }
+
+    @Benchmark
+    public double[] dijkstra() {
+        return Dijkstra.distances(graph, 0);
+    }
+
+    @Benchmark
+    public double[] deltaStepping() {
+        return DeltaStepping.distances(graph, 0);
+    }
+}
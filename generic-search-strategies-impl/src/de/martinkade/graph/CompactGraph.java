@@ -0,0 +1,306 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph;
+
+import java.util.Map.Entry;
+
+/**
+ * This class represents an immutable snapshot of a {@link Graph} in
+ * compressed sparse row form. Nodes are addressed by their
+ * {@link Node#getId()}, the outgoing edges of node <code>v</code> are the
+ * edge indices from {@link #firstEdge(int)} (inclusive) to
+ * {@link #endEdge(int)} (exclusive), and the target, weight and
+ * {@link Criteria} of an edge are stored in parallel arrays.
+ * <p/>
+ * Search strategies iterate the primitive arrays instead of the successor
+ * maps of the {@link Node}s, see {@link Graph#compile()}. Snapshots of
+ * versions that only differ in their weights share the topology arrays, and
+ * so do views of the same snapshot weighted by different {@link Metric}s.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <T> Content type of the node
+ * @param <C> The {@link Criteria} implementation that enables to compare
+ * {@link Node} instances to each other
+ */
+public final class CompactGraph<T, C extends Criteria> implements IndexedGraph<T, C> {
+
+    /**
+     * The nodes indexed by id.
+     */
+    private final Node<T, C>[] nodes;
+
+    /**
+     * The index of the first outgoing edge of every node, plus one trailing
+     * entry holding the number of edges.
+     */
+    private final int[] offsets;
+
+    /**
+     * The target node id of every edge.
+     */
+    private final int[] targets;
+
+    /**
+     * The {@link Criteria#numericRepresentation()} of every edge.
+     */
+    private final double[] weights;
+
+    /**
+     * The {@link Criteria} of every edge.
+     */
+    private final Object[] criteria;
+
+    /**
+     * The transpose of the graph, built on first use.
+     */
+    private volatile ReverseGraph<T, C> reverse;
+
+    /**
+     * The {@link Graph#getVersion()} this snapshot has been compiled from.
+     */
+    private final long version;
+
+    /**
+     * Constructor.
+     *
+     * @param nodes The nodes indexed by id
+     * @param offsets The index of the first edge of every node, followed by
+     * the number of edges
+     * @param targets The target node id of every edge
+     * @param weights The weight of every edge
+     * @param criteria The criteria of every edge
+     * @param version The version of the source graph
+     */
+    private CompactGraph(Node<T, C>[] nodes, int[] offsets, int[] targets,
+            double[] weights, Object[] criteria, long version) {
+        this.nodes = nodes;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.criteria = criteria;
+        this.version = version;
+    }
+
+    /**
+     * Compile a {@link Graph} into compressed sparse row form. Successors that
+     * have not been added to the graph are left out.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link Criteria} implementation
+     * @param graph The graph to compile
+     * @return The compiled snapshot
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, C extends Criteria> CompactGraph<T, C> compile(Graph<T, C> graph) {
+        final int n = graph.size();
+        @SuppressWarnings("rawtypes")
+        final Node<T, C>[] nodes = new Node[n];
+        final int[] offsets = new int[n + 1];
+
+        for (int v = 0; v < n; v++) {
+            final Node<T, C> node = graph.getNode(v);
+            nodes[v] = node;
+            int degree = 0;
+            if (node.getSuccessors() != null) {
+                for (Node<T, C> successor : node.getSuccessors().keySet()) {
+                    if (successor.getId() >= 0 && graph.getNode(successor.getId()) == successor) {
+                        degree++;
+                    }
+                }
+            }
+            offsets[v + 1] = offsets[v] + degree;
+        }
+
+        final int m = offsets[n];
+        final int[] targets = new int[m];
+        final double[] weights = new double[m];
+        final Object[] criteria = new Object[m];
+
+        for (int v = 0; v < n; v++) {
+            if (nodes[v].getSuccessors() == null) {
+                continue;
+            }
+            int e = offsets[v];
+            for (Entry<Node<T, C>, C> entry : nodes[v].getSuccessors().entrySet()) {
+                final Node<T, C> successor = entry.getKey();
+                if (successor.getId() >= 0 && graph.getNode(successor.getId()) == successor) {
+                    targets[e] = successor.getId();
+                    weights[e] = entry.getValue().numericRepresentation();
+                    criteria[e] = entry.getValue();
+                    e++;
+                }
+            }
+        }
+
+        return new CompactGraph<>(nodes, offsets, targets, weights, criteria, graph.getVersion());
+    }
+
+    /**
+     * Create the snapshot of a later version of the graph whose topology is
+     * unchanged. Only the weights and criteria are copied, and the changed
+     * edges are read from the successors of their nodes.
+     *
+     * @param edges The changed edges, see
+     * {@link Graph#getWeightChanges(long, long)}
+     * @param version The version of the graph
+     * @return The updated snapshot
+     */
+    CompactGraph<T, C> update(long[] edges, long version) {
+        final double[] updatedWeights = weights.clone();
+        final Object[] updatedCriteria = criteria.clone();
+        for (long edge : edges) {
+            final int source = (int) (edge >>> 32);
+            final int target = (int) edge;
+            if (source < 0 || target < 0) {
+                continue;
+            }
+            for (int e = offsets[source]; e < offsets[source + 1]; e++) {
+                if (targets[e] == target) {
+                    final C costs = nodes[source].getSuccessors().get(nodes[target]);
+                    updatedWeights[e] = costs.numericRepresentation();
+                    updatedCriteria[e] = costs;
+                    break;
+                }
+            }
+        }
+
+        return derive(updatedWeights, updatedCriteria, version);
+    }
+
+    /**
+     * Get a view of the graph weighted by another metric. Only the weight
+     * column is computed, the view shares all other arrays with this graph.
+     *
+     * @param metric Derives the weight of every edge from its criteria
+     * @return The graph weighted by the metric
+     */
+    @SuppressWarnings("unchecked")
+    public CompactGraph<T, C> withMetric(Metric<? super C> metric) {
+        final double[] column = new double[targets.length];
+        for (int e = 0; e < column.length; e++) {
+            column[e] = metric.weight((C) criteria[e]);
+        }
+        return derive(column, criteria, version);
+    }
+
+    /**
+     * Get a view of the graph with another weight column, for example one
+     * computed elsewhere. The view shares all other arrays with this graph.
+     *
+     * @param weights The weight of every edge by edge index, the array is not
+     * copied and must not be changed afterwards
+     * @return The graph weighted by the given column
+     */
+    public CompactGraph<T, C> withWeights(double[] weights) {
+        if (weights.length != targets.length) {
+            throw new IllegalArgumentException(
+                    String.format("%d weights for %d edges", weights.length, targets.length)
+            );
+        }
+        return derive(weights, criteria, version);
+    }
+
+    /**
+     *
+     * @param weights The weight column of the new graph
+     * @param criteria The criteria of the new graph
+     * @param version The version of the new graph
+     * @return A graph sharing the topology with this one
+     */
+    private CompactGraph<T, C> derive(double[] weights, Object[] criteria, long version) {
+        final CompactGraph<T, C> graph = new CompactGraph<>(nodes, offsets, targets, weights, criteria, version);
+        final ReverseGraph<T, C> transpose = reverse;
+        if (transpose != null) {
+            graph.reverse = new ReverseGraph<>(graph, transpose);
+        }
+        return graph;
+    }
+
+    @Override
+    public int size() {
+        return nodes.length;
+    }
+
+    @Override
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    @Override
+    public int firstEdge(int node) {
+        return offsets[node];
+    }
+
+    @Override
+    public int endEdge(int node) {
+        return offsets[node + 1];
+    }
+
+    @Override
+    public int getTarget(int edge) {
+        return targets[edge];
+    }
+
+    @Override
+    public double getWeight(int edge) {
+        return weights[edge];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public C getCriteria(int edge) {
+        return (C) criteria[edge];
+    }
+
+    @Override
+    public Node<T, C> getNode(int id) {
+        return nodes[id];
+    }
+
+    @Override
+    public IndexedGraph<T, C> reverse() {
+        ReverseGraph<T, C> graph = reverse;
+        if (graph == null) {
+            synchronized (this) {
+                graph = reverse;
+                if (graph == null) {
+                    graph = new ReverseGraph<>(this);
+                    reverse = graph;
+                }
+            }
+        }
+        return graph;
+    }
+
+    /**
+     *
+     * @return The {@link Graph#getVersion()} this snapshot has been compiled
+     * from
+     */
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph;
+
+/**
+ * This interface converts the content of a {@link Node} from and to the bytes
+ * stored as node payload by {@link GraphWriter}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <T> Content type of the node
+ */
+public interface ContentCodec<T> {
+
+    /**
+     *
+     * @param content The content of a node
+     * @return The payload bytes
+     */
+    byte[] encode(T content);
+
+    /**
+     *
+     * @param payload The payload bytes written by {@link #encode(java.lang.Object)}
+     * @return The content of the node
+     */
+    T decode(byte[] payload);
+}
@@ -0,0 +1,56 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph;
+
+/**
+ * This interface estimates the remaining costs from a {@link Node} to the
+ * target of a search, which goal-directed strategies like
+ * {@link de.martinkade.graph.search.AStar} use to expand the nodes closer to
+ * the target first.
+ * <p/>
+ * An estimate must never exceed the actual costs of the cheapest path
+ * (admissible), otherwise the search may return a path that is not the
+ * cheapest one. Estimates that also satisfy the triangle inequality along
+ * every edge (consistent) let the search settle every node at most once.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <T> Content type of the node
+ * @param <C> The {@link Criteria} implementation that enables to compare
+ * {@link Node} instances to each other
+ */
+@FunctionalInterface
+public interface Estimator<T, C extends Criteria> {
+
+    /**
+     *
+     * @param node A node reached by the search
+     * @param targetNode The target node of the search
+     * @return A lower bound of the costs of the cheapest path from the node to
+     * the target node
+     */
+    double estimate(Node<T, C> node, Node<T, C> targetNode);
+
+}
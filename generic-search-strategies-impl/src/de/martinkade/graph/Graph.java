@@ -23,7 +23,9 @@
  */
 package de.martinkade.graph;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -38,11 +40,46 @@ import java.util.Set;
  */
 public class Graph<T, C extends Criteria> {
 
+    /**
+     * The number of weight changes remembered by the graph, a power of two.
+     */
+    private static final int CHANGE_LOG_SIZE = 1 << 12;
+
     /**
      * The nodes of the graph.
      */
     protected Set<Node<T, C>> nodes;
 
+    /**
+     * The nodes of the graph in insertion order, so that a node can be looked
+     * up by its {@link Node#getId()}.
+     */
+    protected List<Node<T, C>> index;
+
+    /**
+     * Incremented on every change of the graph, that is adding a node, adding
+     * a successor of one of its nodes or updating the costs of a successor.
+     */
+    protected long version;
+
+    /**
+     * The {@link #version} of the last change other than a weight change.
+     */
+    protected long structureVersion;
+
+    /**
+     * The most recent weight changes as edges packed by {@link #pack(int, int)},
+     * the change of version <code>v</code> is stored at
+     * <code>v & (CHANGE_LOG_SIZE - 1)</code>. Allocated on the first weight
+     * change.
+     */
+    private long[] changes;
+
+    /**
+     * The {@link CompactGraph} snapshot compiled from the current version.
+     */
+    private volatile CompactGraph<T, C> compiled;
+
     /**
      * Default constructor.
      */
@@ -54,6 +91,116 @@ public class Graph<T, C extends Criteria> {
         return nodes;
     }
 
+    /**
+     * Get the node with the given id.
+     *
+     * @param id The {@link Node#getId()} of the node
+     * @return The node
+     */
+    public Node<T, C> getNode(int id) {
+        return index.get(id);
+    }
+
+    /**
+     * Get the number of nodes within the graph, which is also the exclusive
+     * upper bound of all node ids.
+     *
+     * @return The number of nodes
+     */
+    public int size() {
+        return index == null ? 0 : index.size();
+    }
+
+    /**
+     *
+     * @return The number of changes applied to the graph so far
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Get the edges whose weight has changed between two versions of the
+     * graph, each one packed into a long value with the id of the source node
+     * in the upper and the id of the target node in the lower 32 bits. An edge
+     * is listed once per change.
+     *
+     * @param fromVersion The exclusive lower version
+     * @param toVersion The inclusive upper version, not greater than
+     * {@link #getVersion()}
+     * @return The changed edges, null if the graph has changed otherwise in
+     * between or the changes are too old to be remembered
+     */
+    public long[] getWeightChanges(long fromVersion, long toVersion) {
+        if (fromVersion < structureVersion || toVersion > version
+                || version - fromVersion > CHANGE_LOG_SIZE) {
+            return null;
+        }
+        final long[] edges = new long[(int) (toVersion - fromVersion)];
+        for (long v = fromVersion + 1; v <= toVersion; v++) {
+            edges[(int) (v - fromVersion - 1)] = changes[(int) v & (CHANGE_LOG_SIZE - 1)];
+        }
+        return edges;
+    }
+
+    /**
+     * Record a change of the topology.
+     */
+    void structureChanged() {
+        structureVersion = ++version;
+    }
+
+    /**
+     * Record a weight change, see
+     * {@link Node#updateSuccessor(de.martinkade.graph.Node, de.martinkade.graph.Criteria)}.
+     *
+     * @param node The source node of the edge
+     * @param successor The target node of the edge
+     */
+    void weightChanged(Node<T, C> node, Node<T, C> successor) {
+        if (changes == null) {
+            changes = new long[CHANGE_LOG_SIZE];
+        }
+        changes[(int) ++version & (CHANGE_LOG_SIZE - 1)] = pack(node.id, successor.id);
+    }
+
+    /**
+     *
+     * @param source The id of the source node of an edge
+     * @param target The id of the target node of an edge
+     * @return Both ids packed into a long value
+     */
+    static long pack(int source, int target) {
+        return ((long) source << 32) | (target & 0xffffffffL);
+    }
+
+    /**
+     * Get a {@link CompactGraph} snapshot of the current version of the graph.
+     * The snapshot is compiled on first use and reused until the graph gets
+     * changed by {@link #addNode(de.martinkade.graph.Node)} or
+     * {@link Node#addSuccessor(de.martinkade.graph.Node, de.martinkade.graph.Criteria)}.
+     * If only weights have changed since, the new snapshot shares the topology
+     * of the previous one, see
+     * {@link Node#updateSuccessor(de.martinkade.graph.Node, de.martinkade.graph.Criteria)}.
+     *
+     * @return The compiled snapshot
+     */
+    public CompactGraph<T, C> compile() {
+        CompactGraph<T, C> snapshot = compiled;
+        if (snapshot == null || snapshot.getVersion() != version) {
+            synchronized (this) {
+                snapshot = compiled;
+                if (snapshot == null || snapshot.getVersion() != version) {
+                    final long[] edges = snapshot == null ? null
+                            : getWeightChanges(snapshot.getVersion(), version);
+                    snapshot = edges == null ? CompactGraph.compile(this) : snapshot.update(edges, version);
+                    compiled = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
     /**
      *
      * @param node
@@ -72,7 +219,8 @@ public class Graph<T, C extends Criteria> {
      * because of the set characteristic.
      * <p/>
      * If the node has been added successfully with no exception being thrown,
-     * this method returns the number of nodes within the graph.
+     * this method returns the number of nodes within the graph. A newly added
+     * node gets the next free {@link Node#getId()}.
      *
      * @param node The {@link Node} we want to be added
      * @return The number of nodes within the graph (the new node included)
@@ -80,8 +228,14 @@ public class Graph<T, C extends Criteria> {
     public int addNode(Node<T, C> node) {
         if (nodes == null) {
             nodes = new HashSet<>();
+            index = new ArrayList<>();
+        }
+        if (nodes.add(node)) {
+            node.id = index.size();
+            node.graph = this;
+            index.add(node);
+            structureChanged();
         }
-        nodes.add(node);
         return nodes.size();
     }
 }
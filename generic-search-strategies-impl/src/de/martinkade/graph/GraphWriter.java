@@ -0,0 +1,185 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * This class writes an {@link IndexedGraph} to the binary file format read by
+ * {@link MappedGraph}. All values are little-endian and every section starts at
+ * a multiple of eight bytes:
+ * <pre>
+ * header            magic, format version, node count n, edge count m
+ *                   (4 ints, 16 bytes)
+ * offsets           n + 1 ints, the first edge of every node
+ * targets           m ints, the target node id of every edge
+ * weights           m doubles, the weight of every edge
+ * payload offsets   n + 1 longs, the first payload byte of every node
+ * payload           the encoded node contents, see {@link ContentCodec}
+ * </pre>
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public final class GraphWriter {
+
+    /**
+     * The magic number at the beginning of every graph file.
+     */
+    static final int MAGIC = 0x47535347;
+
+    /**
+     * The version of the file format.
+     */
+    static final int FORMAT_VERSION = 1;
+
+    /**
+     * The size of the file header in bytes.
+     */
+    static final int HEADER_BYTES = 16;
+
+    /**
+     * The size of the write buffer in bytes.
+     */
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    /**
+     * Hidden constructor.
+     */
+    private GraphWriter() {
+        // empty
+    }
+
+    /**
+     * Write a graph to a file, replacing its previous content.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link Criteria} implementation
+     * @param graph The graph to write, for example {@link Graph#compile()}
+     * @param codec The codec converting the node contents into payload bytes
+     * @param file The file to write to
+     * @throws IOException If the file cannot be written
+     */
+    public static <T, C extends Criteria> void write(IndexedGraph<T, C> graph,
+            ContentCodec<T> codec, File file) throws IOException {
+        final int n = graph.size();
+        final int m = graph.edgeCount();
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+                FileChannel channel = raf.getChannel()) {
+            channel.truncate(0L);
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(n).putInt(m);
+
+            for (int v = 0; v < n; v++) {
+                ensureRemaining(channel, buffer, 4);
+                buffer.putInt(graph.firstEdge(v));
+            }
+            ensureRemaining(channel, buffer, 4);
+            buffer.putInt(n > 0 ? graph.endEdge(n - 1) : 0);
+            for (int e = 0; e < m; e++) {
+                ensureRemaining(channel, buffer, 4);
+                buffer.putInt(graph.getTarget(e));
+            }
+            pad(channel, buffer);
+            for (int e = 0; e < m; e++) {
+                ensureRemaining(channel, buffer, 8);
+                buffer.putDouble(graph.getWeight(e));
+            }
+
+            final byte[][] payloads = new byte[n][];
+            long payloadOffset = 0L;
+            for (int v = 0; v < n; v++) {
+                payloads[v] = codec.encode(graph.getNode(v).getContent());
+                ensureRemaining(channel, buffer, 8);
+                buffer.putLong(payloadOffset);
+                payloadOffset += payloads[v].length;
+            }
+            ensureRemaining(channel, buffer, 8);
+            buffer.putLong(payloadOffset);
+
+            for (int v = 0; v < n; v++) {
+                final byte[] payload = payloads[v];
+                int i = 0;
+                while (i < payload.length) {
+                    ensureRemaining(channel, buffer, 1);
+                    final int length = Math.min(buffer.remaining(), payload.length - i);
+                    buffer.put(payload, i, length);
+                    i += length;
+                }
+            }
+            flush(channel, buffer);
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Get the byte position every section of a graph file starts at.
+     *
+     * @param n The number of nodes
+     * @param m The number of edges
+     * @return The byte positions of the offsets, targets, weights, payload
+     * offsets and payload sections
+     */
+    static long[] sections(int n, int m) {
+        final long offsets = HEADER_BYTES;
+        final long targets = offsets + 4L * (n + 1);
+        final long weights = align(targets + 4L * m);
+        final long payloadOffsets = weights + 8L * m;
+        final long payload = payloadOffsets + 8L * (n + 1);
+        return new long[]{offsets, targets, weights, payloadOffsets, payload};
+    }
+
+    private static long align(long position) {
+        return (position + 7L) & ~7L;
+    }
+
+    private static void pad(FileChannel channel, ByteBuffer buffer) throws IOException {
+        final long position = channel.position() + buffer.position();
+        for (long i = position; i < align(position); i++) {
+            ensureRemaining(channel, buffer, 1);
+            buffer.put((byte) 0);
+        }
+    }
+
+    private static void ensureRemaining(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush(channel, buffer);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph;
+
+/**
+ * This interface represents a read-only graph whose nodes are addressed by a
+ * dense id from 0 to {@link #size()} - 1 and whose edges are addressed by a
+ * dense index. The outgoing edges of node <code>v</code> are the edge indices
+ * from {@link #firstEdge(int)} (inclusive) to {@link #endEdge(int)}
+ * (exclusive).
+ * <p/>
+ * This is the form every {@link de.martinkade.graph.search.Strategy}
+ * searches, see {@link CompactGraph} and {@link MappedGraph}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <T> Content type of the node
+ * @param <C> The {@link Criteria} implementation that enables to compare
+ * {@link Node} instances to each other
+ */
+public interface IndexedGraph<T, C extends Criteria> {
+
+    /**
+     *
+     * @return The number of nodes, which is also the exclusive upper bound of
+     * all node ids
+     */
+    int size();
+
+    /**
+     *
+     * @return The number of edges
+     */
+    int edgeCount();
+
+    /**
+     *
+     * @param node The node id
+     * @return The index of the first outgoing edge of the node
+     */
+    int firstEdge(int node);
+
+    /**
+     *
+     * @param node The node id
+     * @return The index following the last outgoing edge of the node
+     */
+    int endEdge(int node);
+
+    /**
+     *
+     * @param edge The edge index
+     * @return The id of the target node of the edge
+     */
+    int getTarget(int edge);
+
+    /**
+     *
+     * @param edge The edge index
+     * @return The numeric representation of the edge criteria
+     */
+    double getWeight(int edge);
+
+    /**
+     *
+     * @param edge The edge index
+     * @return The criteria of the edge, null if the graph does not keep them
+     */
+    C getCriteria(int edge);
+
+    /**
+     *
+     * @param id The node id
+     * @return The node
+     */
+    Node<T, C> getNode(int id);
+
+    /**
+     * Get the transpose of the graph, see {@link ReverseGraph}. It is built on
+     * first use and reused afterwards.
+     *
+     * @return The graph with all edges reversed
+     */
+    IndexedGraph<T, C> reverse();
+}
@@ -0,0 +1,254 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * This class represents a read-only {@link IndexedGraph} backed by a file
+ * written by {@link GraphWriter}. The file is memory mapped instead of being
+ * read into the heap, so opening a graph takes constant time, graphs larger
+ * than the heap can be searched and all processes mapping the same file share
+ * the page cache.
+ * <p/>
+ * Node contents are decoded on demand by {@link #getNode(int)}, which returns
+ * a new {@link Node} without successors on every call. The file does not keep
+ * the {@link Criteria} of the edges, so {@link #getCriteria(int)} returns
+ * null.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <T> Content type of the node
+ * @param <C> The {@link Criteria} implementation that enables to compare
+ * {@link Node} instances to each other
+ */
+public final class MappedGraph<T, C extends Criteria> implements IndexedGraph<T, C>, Closeable {
+
+    /**
+     * The number of bits addressing a byte within a mapped chunk. A single
+     * mapping is limited to 2 GB, so larger files are mapped in chunks of
+     * 1 GB. No value crosses a chunk boundary as every section is aligned to
+     * its value size.
+     */
+    private static final int CHUNK_BITS = 30;
+
+    /**
+     * The mask of the byte position within a chunk.
+     */
+    private static final long CHUNK_MASK = (1L << CHUNK_BITS) - 1L;
+
+    /**
+     * The file channel, open until {@link #close()}.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The mapped chunks of the file.
+     */
+    private final ByteBuffer[] chunks;
+
+    /**
+     * The codec decoding the node payload.
+     */
+    private final ContentCodec<T> codec;
+
+    /**
+     * The number of nodes and edges, respectively.
+     */
+    private final int n, m;
+
+    /**
+     * The byte position of the offsets, targets, weights, payload offsets and
+     * payload sections.
+     */
+    private final long offsets, targets, weights, payloadOffsets, payload;
+
+    /**
+     * The transpose of the graph, built on first use and kept on the heap.
+     */
+    private volatile ReverseGraph<T, C> reverse;
+
+    /**
+     * Constructor.
+     *
+     * @param channel The open file channel
+     * @param codec The codec decoding the node payload
+     * @throws IOException If the file is no valid graph file
+     */
+    private MappedGraph(FileChannel channel, ContentCodec<T> codec) throws IOException {
+        this.channel = channel;
+        this.codec = codec;
+
+        final long length = channel.size();
+        chunks = new ByteBuffer[(int) ((length + CHUNK_MASK) >>> CHUNK_BITS)];
+        for (int i = 0; i < chunks.length; i++) {
+            final long position = (long) i << CHUNK_BITS;
+            chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                    Math.min(CHUNK_MASK + 1L, length - position)
+            ).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        if (length < GraphWriter.HEADER_BYTES || getInt(0L) != GraphWriter.MAGIC) {
+            throw new IOException("not a graph file");
+        }
+        if (getInt(4L) != GraphWriter.FORMAT_VERSION) {
+            throw new IOException(String.format("unsupported graph file version %d", getInt(4L)));
+        }
+        n = getInt(8L);
+        m = getInt(12L);
+
+        final long[] sections = GraphWriter.sections(n, m);
+        offsets = sections[0];
+        targets = sections[1];
+        weights = sections[2];
+        payloadOffsets = sections[3];
+        payload = sections[4];
+        // the payload offsets end right before the payload, so check that
+        // they are inside the file before reading the payload size
+        if (n < 0 || m < 0 || length < payload) {
+            throw new IOException("truncated graph file");
+        }
+        final long payloadSize = getLong(payloadOffsets + 8L * n);
+        if (payloadSize < 0L || length < payload + payloadSize) {
+            throw new IOException("truncated graph file");
+        }
+    }
+
+    /**
+     * Map a graph file written by {@link GraphWriter}.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link Criteria} implementation
+     * @param file The graph file
+     * @param codec The codec decoding the node payload
+     * @return The mapped graph, to be closed once it is no longer searched
+     * @throws IOException If the file cannot be mapped or is no valid graph
+     * file
+     */
+    public static <T, C extends Criteria> MappedGraph<T, C> open(File file, ContentCodec<T> codec) throws IOException {
+        final FileChannel channel = new RandomAccessFile(file, "r").getChannel();
+        try {
+            return new MappedGraph<>(channel, codec);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    private int getInt(long position) {
+        return chunks[(int) (position >>> CHUNK_BITS)].getInt((int) (position & CHUNK_MASK));
+    }
+
+    private long getLong(long position) {
+        return chunks[(int) (position >>> CHUNK_BITS)].getLong((int) (position & CHUNK_MASK));
+    }
+
+    private double getDouble(long position) {
+        return chunks[(int) (position >>> CHUNK_BITS)].getDouble((int) (position & CHUNK_MASK));
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public int edgeCount() {
+        return m;
+    }
+
+    @Override
+    public int firstEdge(int node) {
+        return getInt(offsets + 4L * node);
+    }
+
+    @Override
+    public int endEdge(int node) {
+        return getInt(offsets + 4L * (node + 1));
+    }
+
+    @Override
+    public int getTarget(int edge) {
+        return getInt(targets + 4L * edge);
+    }
+
+    @Override
+    public double getWeight(int edge) {
+        return getDouble(weights + 8L * edge);
+    }
+
+    @Override
+    public C getCriteria(int edge) {
+        return null;
+    }
+
+    /**
+     * Decode the payload of a node. The returned node carries the id but no
+     * successors, and a new instance is created on every call.
+     *
+     * @param id The node id
+     * @return The node
+     */
+    @Override
+    public Node<T, C> getNode(int id) {
+        final long begin = getLong(payloadOffsets + 8L * id);
+        final int length = (int) (getLong(payloadOffsets + 8L * (id + 1)) - begin);
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            final long position = payload + begin + i;
+            bytes[i] = chunks[(int) (position >>> CHUNK_BITS)].get((int) (position & CHUNK_MASK));
+        }
+
+        final Node<T, C> node = new Node<>(codec.decode(bytes));
+        node.id = id;
+        return node;
+    }
+
+    @Override
+    public IndexedGraph<T, C> reverse() {
+        ReverseGraph<T, C> graph = reverse;
+        if (graph == null) {
+            synchronized (this) {
+                graph = reverse;
+                if (graph == null) {
+                    graph = new ReverseGraph<>(this);
+                    reverse = graph;
+                }
+            }
+        }
+        return graph;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
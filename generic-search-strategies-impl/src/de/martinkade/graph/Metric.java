@@ -0,0 +1,46 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph;
+
+/**
+ * Derives the weight of an edge from its {@link Criteria}, e.g. the travel
+ * time of a road instead of its length. Several metrics can share the
+ * topology of a {@link CompactGraph}, see
+ * {@link CompactGraph#withMetric(de.martinkade.graph.Metric)}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <C> The {@link Criteria} implementation
+ */
+@FunctionalInterface
+public interface Metric<C extends Criteria> {
+
+    /**
+     *
+     * @param criteria The criteria of an edge
+     * @return The non-negative weight of the edge
+     */
+    double weight(C criteria);
+}
@@ -0,0 +1,58 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph;
+
+/**
+ * A {@link Criteria} holding several costs of an edge at once, e.g. its
+ * length, travel time and toll, for searches that trade them off against each
+ * other instead of collapsing them into one
+ * {@link #numericRepresentation()}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public interface MultiCriteria extends Criteria {
+
+    /**
+     *
+     * @return The number of costs, the same for all edges of a graph
+     */
+    int dimension();
+
+    /**
+     *
+     * @param index The index of the cost, from 0 to {@link #dimension()} - 1
+     * @return The non-negative cost
+     */
+    double getValue(int index);
+
+    /**
+     *
+     * @return The first cost
+     */
+    @Override
+    default double numericRepresentation() {
+        return getValue(0);
+    }
+}
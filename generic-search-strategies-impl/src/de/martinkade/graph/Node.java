@@ -47,21 +47,47 @@ public class Node<T, C extends Criteria> implements Comparable<Node<T, C>> {
      */
     protected T content;
 
+    /**
+     * The dense index of the node within its {@link Graph}, assigned by
+     * {@link Graph#addNode(de.martinkade.graph.Node)}. Search strategies use it
+     * to address array based bookkeeping, -1 as long as the node has not been
+     * added to a graph.
+     */
+    protected int id;
+
+    /**
+     * The {@link Graph} the node has been added to, which gets notified about
+     * new successors.
+     */
+    protected Graph<T, C> graph;
+
     /**
      * The costs of the node, {@link Double#POSITIVE_INFINITY} by default.
+     *
+     * @deprecated Search strategies keep the costs per query in a
+     * {@link de.martinkade.graph.search.SearchContext}
      */
+    @Deprecated
     protected double costs;
 
     /**
      * A {@link Heuristic} implementation to be able to order a collection of
      * nodes.
+     *
+     * @deprecated Search strategies order nodes by the costs kept in a
+     * {@link de.martinkade.graph.search.SearchContext}
      */
+    @Deprecated
     protected Heuristic<T, C> heuristic;
 
     /**
      * Reference to the node being visited previously. We need this reference
      * later on to be able to remember the best path.
+     *
+     * @deprecated Search strategies keep the predecessors per query in a
+     * {@link de.martinkade.graph.search.SearchContext}
      */
+    @Deprecated
     protected Node<T, C> predecessor;
 
     /**
@@ -77,6 +103,7 @@ public class Node<T, C extends Criteria> implements Comparable<Node<T, C>> {
      * @param content The content this node represents
      */
     public Node(T content) {
+        id = -1;
         costs = Double.POSITIVE_INFINITY;
         this.content = content;
     }
@@ -117,20 +144,53 @@ public class Node<T, C extends Criteria> implements Comparable<Node<T, C>> {
             );
         }
         successors.put(successor, costs);
+        if (graph != null) {
+            graph.structureChanged();
+        }
     }
 
+    /**
+     * Replace the costs of an existing successor, for example because of
+     * changing traffic. Snapshots compiled after the change share the
+     * topology of the previous one, see {@link Graph#compile()}.
+     *
+     * @param successor A neighbor of the node
+     * @param costs The new costs of the successor to get there
+     * @throws IllegalArgumentException If the node is not a successor
+     */
+    public void updateSuccessor(Node<T, C> successor, C costs) {
+        if (successors == null || !successors.containsKey(successor)) {
+            throw new IllegalArgumentException(
+                    String.format("this successor is not present: '%s'",
+                            successor.content.toString()
+                    )
+            );
+        }
+        successors.put(successor, costs);
+        if (graph != null) {
+            graph.weightChanged(this, successor);
+        }
+    }
+
+    @Deprecated
     public void setCosts(double costs) {
         this.costs = costs;
     }
 
+    @Deprecated
     public void setHeuristic(Heuristic<T, C> heuristic) {
         this.heuristic = heuristic;
     }
 
+    @Deprecated
     public double getCosts() {
         return costs;
     }
 
+    public int getId() {
+        return id;
+    }
+
     public T getContent() {
         return content;
     }
@@ -139,10 +199,12 @@ public class Node<T, C extends Criteria> implements Comparable<Node<T, C>> {
         return successors;
     }
 
+    @Deprecated
     public void setPredecessor(Node<T, C> predecessor) {
         this.predecessor = predecessor;
     }
 
+    @Deprecated
     public Node<T, C> getPredecessor() {
         return predecessor;
     }
@@ -23,14 +23,19 @@
  */
 package de.martinkade.graph;
 
-import java.util.ArrayList;
+import de.martinkade.graph.search.SearchContext;
+
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * This class represents a path as a possible result of a {@link Strategy}
  * implementations.
+ * <p/>
+ * The path is stored as a compact sequence of node ids together with the
+ * {@link IndexedGraph} it belongs to. Nodes, their contents and the
+ * {@link Criteria} of the edges are only looked up when they are accessed.
  *
  * @author martinkade
  * @version 2015-10-07
@@ -42,39 +47,191 @@ import java.util.logging.Logger;
 public class Path<T, C extends Criteria> {
 
     /**
-     * The end or target point of the path, respectively.
+     * The graph the path belongs to.
      */
-    private final Node<T, C> targetNode;
+    private final IndexedGraph<T, C> graph;
 
     /**
-     * Constructor.
+     * The ids of the nodes of the path from the start to the end or target
+     * point, respectively. Only holds the target node if it has not been
+     * reached.
+     */
+    private final int[] nodes;
+
+    /**
+     * The total costs of the path, {@link Double#POSITIVE_INFINITY} if the
+     * target has not been reached.
+     */
+    private final double costs;
+
+    /**
+     * Constructor. Reads the predecessor chain of the target node from the
+     * given {@link SearchContext}, which may be reused afterwards.
      *
+     * @param graph The graph that has been searched
+     * @param context The state of the search
      * @param targetNode The last node of the path
      */
-    public Path(Node<T, C> targetNode) {
-        this.targetNode = targetNode;
+    public Path(IndexedGraph<T, C> graph, SearchContext context, Node<T, C> targetNode) {
+        this.graph = graph;
+
+        final int target = targetNode.getId();
+        if (target < 0) {
+            nodes = new int[0];
+            costs = Double.POSITIVE_INFINITY;
+            return;
+        }
+
+        int length = 1;
+        for (int id = context.getPredecessor(target); id >= 0; id = context.getPredecessor(id)) {
+            length++;
+        }
+        nodes = new int[length];
+        for (int i = length - 1, id = target; i >= 0; i--, id = context.getPredecessor(id)) {
+            nodes[i] = id;
+        }
+        costs = context.getCosts(target);
     }
 
-    @Override
-    public String toString() {
-        Logger.getLogger(getClass().getName()).log(Level.INFO,
-                String.format("print path to target node '%s'", targetNode.getContent().toString())
-        );
+    /**
+     * Constructor.
+     *
+     * @param graph The graph the path belongs to
+     * @param nodes The ids of the nodes from the start to the target node, the
+     * array is not copied
+     * @param costs The total costs, {@link Double#POSITIVE_INFINITY} if the
+     * target has not been reached
+     */
+    public Path(IndexedGraph<T, C> graph, int[] nodes, double costs) {
+        this.graph = graph;
+        this.nodes = nodes;
+        this.costs = costs;
+    }
+
+    /**
+     *
+     * @return True if the target node has been reached
+     */
+    public boolean isFound() {
+        return costs != Double.POSITIVE_INFINITY;
+    }
+
+    public double getCosts() {
+        return costs;
+    }
+
+    /**
+     *
+     * @return The number of nodes of the path
+     */
+    public int size() {
+        return nodes.length;
+    }
+
+    /**
+     *
+     * @param index The position within the path, from 0 to {@link #size()} - 1
+     * @return The id of the node at the given position
+     */
+    public int getNodeId(int index) {
+        return nodes[index];
+    }
+
+    /**
+     *
+     * @return A copy of the node ids of the path
+     */
+    public int[] getNodeIds() {
+        return nodes.clone();
+    }
+
+    /**
+     *
+     * @return A read-only view of the nodes of the path
+     */
+    public List<Node<T, C>> getNodes() {
+        return new AbstractList<Node<T, C>>() {
+
+            @Override
+            public Node<T, C> get(int index) {
+                return graph.getNode(nodes[index]);
+            }
+
+            @Override
+            public int size() {
+                return nodes.length;
+            }
+        };
+    }
+
+    /**
+     *
+     * @return A read-only view of the contents of the nodes of the path
+     */
+    public List<T> getContents() {
+        return new AbstractList<T>() {
 
-        Node<T, C> node = targetNode.getPredecessor();
-        final List<T> contents = new ArrayList<>();
+            @Override
+            public T get(int index) {
+                return graph.getNode(nodes[index]).getContent();
+            }
 
-        while (node != null) {
-            contents.add(0, node.getContent());
-            node = node.getPredecessor();
+            @Override
+            public int size() {
+                return nodes.length;
+            }
+        };
+    }
+
+    /**
+     * Get the {@link Criteria} of the edges of the path. If the graph contains
+     * parallel edges, the cheapest one is used.
+     *
+     * @return A read-only view of the criteria of the edges of the path
+     */
+    public List<C> getEdges() {
+        return new AbstractList<C>() {
+
+            @Override
+            public C get(int index) {
+                return graph.getCriteria(getEdgeIndex(index));
+            }
+
+            @Override
+            public int size() {
+                return isFound() ? nodes.length - 1 : 0;
+            }
+        };
+    }
+
+    /**
+     *
+     * @param index The position of the edge within the path
+     * @return The index of the edge within the graph
+     */
+    public int getEdgeIndex(int index) {
+        if (!isFound() || index < 0 || index >= nodes.length - 1) {
+            throw new IndexOutOfBoundsException(String.format("edge %d of %s", index, Arrays.toString(nodes)));
         }
+        final int target = nodes[index + 1];
+        int edge = -1;
+        for (int e = graph.firstEdge(nodes[index]), end = graph.endEdge(nodes[index]); e < end; e++) {
+            if (graph.getTarget(e) == target && (edge < 0 || graph.getWeight(e) < graph.getWeight(edge))) {
+                edge = e;
+            }
+        }
+        return edge;
+    }
 
+    @Override
+    public String toString() {
         final StringBuilder sb = new StringBuilder();
-        contents.stream().forEach((e) -> {
-            sb.append(e.toString()).append(" -> ");
-        });
-        sb.append(targetNode.getContent().toString());
-
+        for (int i = 0; i < nodes.length; i++) {
+            if (i > 0) {
+                sb.append(" -> ");
+            }
+            sb.append(graph.getNode(nodes[i]).getContent().toString());
+        }
         return sb.toString();
     }
 }
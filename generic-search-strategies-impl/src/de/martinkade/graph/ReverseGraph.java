@@ -0,0 +1,170 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph;
+
+/**
+ * This class represents the transpose of an {@link IndexedGraph}: it has the
+ * same nodes, but every edge points from the target of the original edge to
+ * its source. The outgoing edges of a node in the reverse graph are the
+ * incoming edges of the node in the original graph, which backward searches
+ * need.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <T> Content type of the node
+ * @param <C> The {@link Criteria} implementation that enables to compare
+ * {@link Node} instances to each other
+ */
+public final class ReverseGraph<T, C extends Criteria> implements IndexedGraph<T, C> {
+
+    /**
+     * The original graph.
+     */
+    private final IndexedGraph<T, C> graph;
+
+    /**
+     * The index of the first incoming edge of every node, plus one trailing
+     * entry holding the number of edges.
+     */
+    private final int[] offsets;
+
+    /**
+     * The source node id of every incoming edge.
+     */
+    private final int[] sources;
+
+    /**
+     * The index of every incoming edge within the original graph.
+     */
+    private final int[] edges;
+
+    /**
+     * Constructor. Transposes the given graph in O(n + m).
+     *
+     * @param graph The original graph
+     */
+    public ReverseGraph(IndexedGraph<T, C> graph) {
+        this.graph = graph;
+
+        final int n = graph.size();
+        final int m = graph.edgeCount();
+        offsets = new int[n + 1];
+        sources = new int[m];
+        edges = new int[m];
+
+        for (int e = 0; e < m; e++) {
+            offsets[graph.getTarget(e) + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        final int[] next = new int[n];
+        System.arraycopy(offsets, 0, next, 0, n);
+        for (int u = 0; u < n; u++) {
+            for (int e = graph.firstEdge(u), end = graph.endEdge(u); e < end; e++) {
+                final int i = next[graph.getTarget(e)]++;
+                sources[i] = u;
+                edges[i] = e;
+            }
+        }
+    }
+
+    /**
+     * Constructor sharing the topology of another transpose, for an original
+     * graph that differs in its weights only.
+     *
+     * @param graph The original graph
+     * @param topology The transpose of a graph with the same edges
+     */
+    ReverseGraph(IndexedGraph<T, C> graph, ReverseGraph<T, C> topology) {
+        this.graph = graph;
+        offsets = topology.offsets;
+        sources = topology.sources;
+        edges = topology.edges;
+    }
+
+    /**
+     *
+     * @param edge The edge index within the reverse graph
+     * @return The index of the edge within the original graph
+     */
+    public int getOriginalEdge(int edge) {
+        return edges[edge];
+    }
+
+    @Override
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    @Override
+    public int edgeCount() {
+        return sources.length;
+    }
+
+    @Override
+    public int firstEdge(int node) {
+        return offsets[node];
+    }
+
+    @Override
+    public int endEdge(int node) {
+        return offsets[node + 1];
+    }
+
+    /**
+     *
+     * @param edge The edge index
+     * @return The id of the source node of the original edge
+     */
+    @Override
+    public int getTarget(int edge) {
+        return sources[edge];
+    }
+
+    @Override
+    public double getWeight(int edge) {
+        return graph.getWeight(edges[edge]);
+    }
+
+    @Override
+    public C getCriteria(int edge) {
+        return graph.getCriteria(edges[edge]);
+    }
+
+    @Override
+    public Node<T, C> getNode(int id) {
+        return graph.getNode(id);
+    }
+
+    /**
+     *
+     * @return The original graph
+     */
+    @Override
+    public IndexedGraph<T, C> reverse() {
+        return graph;
+    }
+}
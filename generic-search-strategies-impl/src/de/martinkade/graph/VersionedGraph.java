@@ -0,0 +1,142 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This class publishes versioned {@link CompactGraph} snapshots of a
+ * {@link Graph} that is changed by writer threads while reader threads search
+ * it.
+ * <p/>
+ * Readers pin the current version with {@link #snapshot()}, which is a single
+ * volatile read. A snapshot never changes, so a query sees one consistent
+ * version from start to end, and old versions are reclaimed by the garbage
+ * collector once no query holds them any more.
+ * <p/>
+ * Writers apply a batch of changes to the underlying graph with
+ * {@link #update(de.martinkade.graph.VersionedGraph.Update)}. Batches are
+ * serialized, and the snapshot of the changed graph is compiled by the writer
+ * and published atomically afterwards. Batches changing weights only share
+ * the topology with the previous version. Readers are never blocked.
+ * <p/>
+ * The underlying graph and the successor maps of its nodes must only be
+ * accessed within an update, readers use the snapshot instead.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <T> Content type of the node
+ * @param <C> The {@link Criteria} implementation that enables to compare
+ * {@link Node} instances to each other
+ */
+public class VersionedGraph<T, C extends Criteria> {
+
+    /**
+     * A batch of changes applied to the graph.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link Criteria} implementation
+     */
+    @FunctionalInterface
+    public interface Update<T, C extends Criteria> {
+
+        /**
+         *
+         * @param graph The graph to change
+         * @throws DuplicateNodeException If a successor is added twice
+         */
+        void apply(Graph<T, C> graph) throws DuplicateNodeException;
+    }
+
+    /**
+     * The graph owned by the writers.
+     */
+    private final Graph<T, C> graph;
+
+    /**
+     * The published snapshot.
+     */
+    private final AtomicReference<CompactGraph<T, C>> current;
+
+    /**
+     * Serializes the writers.
+     */
+    private final Object writeLock;
+
+    /**
+     * Constructor starting with an empty graph.
+     */
+    public VersionedGraph() {
+        this(new Graph<>());
+    }
+
+    /**
+     * Constructor. The graph must not be changed other than through
+     * {@link #update(de.martinkade.graph.VersionedGraph.Update)} afterwards.
+     *
+     * @param graph The initial graph
+     */
+    public VersionedGraph(Graph<T, C> graph) {
+        this.graph = graph;
+        current = new AtomicReference<>(graph.compile());
+        writeLock = new Object();
+    }
+
+    /**
+     * Pin the current version.
+     *
+     * @return The latest published snapshot
+     */
+    public CompactGraph<T, C> snapshot() {
+        return current.get();
+    }
+
+    /**
+     *
+     * @return The version of the latest published snapshot
+     */
+    public long getVersion() {
+        return current.get().getVersion();
+    }
+
+    /**
+     * Apply a batch of changes and publish the new version. If the batch
+     * fails, the changes applied so far are published nevertheless.
+     *
+     * @param update The changes
+     * @return The published snapshot
+     * @throws DuplicateNodeException If the batch adds a successor twice
+     */
+    public CompactGraph<T, C> update(Update<T, C> update) throws DuplicateNodeException {
+        synchronized (writeLock) {
+            try {
+                update.apply(graph);
+            } finally {
+                current.set(graph.compile());
+            }
+            return current.get();
+        }
+    }
+}
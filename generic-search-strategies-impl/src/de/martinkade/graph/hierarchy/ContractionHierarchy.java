@@ -0,0 +1,576 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.hierarchy;
+
+import de.martinkade.graph.Criteria;
+import de.martinkade.graph.IndexedGraph;
+import de.martinkade.graph.Node;
+import de.martinkade.graph.search.NodePriorityQueue;
+import de.martinkade.graph.search.SearchContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * This class represents the contraction hierarchy of an {@link IndexedGraph}.
+ * Nodes are contracted one after the other in the order of their edge
+ * difference: a contracted node is removed from the graph and shortcut edges
+ * are added between its neighbors wherever the path through the node is the
+ * only cheapest one. The order of contraction is the rank of a node.
+ * <p/>
+ * Every original edge and shortcut is kept either as upward edge of its
+ * source or as downward edge of its target, whichever node has the lower
+ * rank. A {@link ContractionHierarchySearch} then finds a cheapest path by
+ * two searches that only ever move upwards in rank. A shortcut remembers the
+ * two edges it replaces, so paths can be unpacked into original edges.
+ * <p/>
+ * Ordering uses lazy updates: when a node gets contracted, the priorities of
+ * its neighbors are only marked dirty and recomputed once the neighbor is
+ * about to be contracted. Each round contracts a set of independent nodes,
+ * which are the nodes whose priority is smaller than the priorities of all of
+ * their neighbors. The witness searches of a round run in parallel and ignore
+ * all nodes of that round, so the shortcuts of independent nodes do not rely
+ * on each other.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <T> Content type of the node
+ * @param <C> The {@link Criteria} implementation that enables to compare
+ * {@link Node} instances to each other
+ */
+public final class ContractionHierarchy<T, C extends Criteria> {
+
+    /**
+     * The maximum number of nodes a witness search settles before it gives up
+     * and a shortcut is added.
+     */
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+
+    /**
+     * The slot of the pooled {@link SearchContext} used by witness searches.
+     */
+    private static final int WITNESS_CONTEXT = 2;
+
+    /**
+     * The graph the hierarchy has been built for.
+     */
+    private final IndexedGraph<T, C> graph;
+
+    /**
+     * The rank of every node, that is the order of contraction.
+     */
+    private final int[] ranks;
+
+    /**
+     * The source and target node id of every edge.
+     */
+    private final int[] sources, targets;
+
+    /**
+     * The weight of every edge.
+     */
+    private final double[] weights;
+
+    /**
+     * The index of the original edge within {@link #graph}, -1 for
+     * shortcuts.
+     */
+    private final int[] originals;
+
+    /**
+     * The edges replaced by every shortcut, -1 for original edges.
+     */
+    private final int[] firstChildren, secondChildren;
+
+    /**
+     * The upward edges of every node, that is the edges leading to nodes of
+     * higher rank, in compressed sparse row form.
+     */
+    private final int[] upOffsets, upEdges;
+
+    /**
+     * The downward edges of every node, that is the edges coming from nodes
+     * of higher rank, in compressed sparse row form.
+     */
+    private final int[] downOffsets, downEdges;
+
+    /**
+     * The number of shortcuts.
+     */
+    private final int shortcutCount;
+
+    /**
+     * Constructor.
+     *
+     * @param graph The graph the hierarchy has been built for
+     * @param contractor The finished contraction
+     */
+    private ContractionHierarchy(IndexedGraph<T, C> graph, Contractor contractor) {
+        this.graph = graph;
+        final int n = contractor.n;
+        final int m = contractor.edgeCount;
+
+        ranks = contractor.ranks;
+        sources = Arrays.copyOf(contractor.sources, m);
+        targets = Arrays.copyOf(contractor.targets, m);
+        weights = Arrays.copyOf(contractor.weights, m);
+        originals = Arrays.copyOf(contractor.originals, m);
+        firstChildren = Arrays.copyOf(contractor.firstChildren, m);
+        secondChildren = Arrays.copyOf(contractor.secondChildren, m);
+
+        upOffsets = new int[n + 1];
+        downOffsets = new int[n + 1];
+        int shortcuts = 0;
+        for (int e = 0; e < m; e++) {
+            if (contractor.dead[e]) {
+                continue;
+            }
+            if (ranks[targets[e]] > ranks[sources[e]]) {
+                upOffsets[sources[e] + 1]++;
+            } else {
+                downOffsets[targets[e] + 1]++;
+            }
+            if (originals[e] < 0) {
+                shortcuts++;
+            }
+        }
+        shortcutCount = shortcuts;
+        for (int v = 0; v < n; v++) {
+            upOffsets[v + 1] += upOffsets[v];
+            downOffsets[v + 1] += downOffsets[v];
+        }
+        upEdges = new int[upOffsets[n]];
+        downEdges = new int[downOffsets[n]];
+        final int[] up = Arrays.copyOf(upOffsets, n);
+        final int[] down = Arrays.copyOf(downOffsets, n);
+        for (int e = 0; e < m; e++) {
+            if (contractor.dead[e]) {
+                continue;
+            }
+            if (ranks[targets[e]] > ranks[sources[e]]) {
+                upEdges[up[sources[e]]++] = e;
+            } else {
+                downEdges[down[targets[e]]++] = e;
+            }
+        }
+    }
+
+    /**
+     * Build the contraction hierarchy of a graph.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link Criteria} implementation
+     * @param graph The graph to preprocess
+     * @return The contraction hierarchy
+     */
+    public static <T, C extends Criteria> ContractionHierarchy<T, C> build(IndexedGraph<T, C> graph) {
+        final Contractor contractor = new Contractor(graph);
+        contractor.contract();
+        return new ContractionHierarchy<>(graph, contractor);
+    }
+
+    /**
+     *
+     * @return The graph the hierarchy has been built for
+     */
+    public IndexedGraph<T, C> getGraph() {
+        return graph;
+    }
+
+    /**
+     *
+     * @param node The node id
+     * @return The rank of the node
+     */
+    public int getRank(int node) {
+        return ranks[node];
+    }
+
+    /**
+     *
+     * @return The number of shortcuts added by the contraction
+     */
+    public int getShortcutCount() {
+        return shortcutCount;
+    }
+
+    int firstUpEdge(int node) {
+        return upOffsets[node];
+    }
+
+    int endUpEdge(int node) {
+        return upOffsets[node + 1];
+    }
+
+    int getUpEdge(int index) {
+        return upEdges[index];
+    }
+
+    int firstDownEdge(int node) {
+        return downOffsets[node];
+    }
+
+    int endDownEdge(int node) {
+        return downOffsets[node + 1];
+    }
+
+    int getDownEdge(int index) {
+        return downEdges[index];
+    }
+
+    int getSource(int edge) {
+        return sources[edge];
+    }
+
+    int getTarget(int edge) {
+        return targets[edge];
+    }
+
+    double getWeight(int edge) {
+        return weights[edge];
+    }
+
+    /**
+     * Replace an edge by the original edges it consists of.
+     *
+     * @param edge The edge of the hierarchy
+     * @param originalEdges The list the indices of the original edges get
+     * appended to, in path order
+     */
+    void unpack(int edge, List<Integer> originalEdges) {
+        int[] stack = new int[64];
+        int size = 0;
+        stack[size++] = edge;
+        while (size > 0) {
+            final int e = stack[--size];
+            if (originals[e] >= 0) {
+                originalEdges.add(originals[e]);
+            } else {
+                if (size + 2 > stack.length) {
+                    stack = Arrays.copyOf(stack, 2 * stack.length);
+                }
+                stack[size++] = secondChildren[e];
+                stack[size++] = firstChildren[e];
+            }
+        }
+    }
+
+    /**
+     * A shortcut found by a witness search, to be added once all witness
+     * searches of a round are done.
+     */
+    private static final class Shortcut {
+
+        final int source, target, first, second;
+        final double weight;
+
+        Shortcut(int source, int target, double weight, int first, int second) {
+            this.source = source;
+            this.target = target;
+            this.weight = weight;
+            this.first = first;
+            this.second = second;
+        }
+    }
+
+    /**
+     * The mutable state of a contraction.
+     */
+    private static final class Contractor {
+
+        final int n;
+        final int[] ranks;
+
+        int edgeCount;
+        int[] sources, targets, originals, firstChildren, secondChildren;
+        double[] weights;
+        boolean[] dead;
+
+        /**
+         * The remaining outgoing and incoming edges of every node that has not
+         * been contracted yet, only the first {@link #outSizes} and
+         * {@link #inSizes} entries are valid.
+         */
+        final int[][] out, in;
+        final int[] outSizes, inSizes;
+
+        final boolean[] contracted, dirty, inRound;
+        final int[] contractedNeighbors;
+        final int[] priorities;
+
+        Contractor(IndexedGraph<?, ?> graph) {
+            n = graph.size();
+            ranks = new int[n];
+            final int capacity = Math.max(16, graph.edgeCount() * 2);
+            sources = new int[capacity];
+            targets = new int[capacity];
+            originals = new int[capacity];
+            firstChildren = new int[capacity];
+            secondChildren = new int[capacity];
+            weights = new double[capacity];
+            dead = new boolean[capacity];
+
+            out = new int[n][];
+            in = new int[n][];
+            outSizes = new int[n];
+            inSizes = new int[n];
+            for (int v = 0; v < n; v++) {
+                out[v] = new int[Math.max(2, graph.endEdge(v) - graph.firstEdge(v))];
+                in[v] = new int[2];
+            }
+            contracted = new boolean[n];
+            dirty = new boolean[n];
+            inRound = new boolean[n];
+            contractedNeighbors = new int[n];
+            priorities = new int[n];
+
+            for (int u = 0; u < n; u++) {
+                for (int e = graph.firstEdge(u), end = graph.endEdge(u); e < end; e++) {
+                    final int v = graph.getTarget(e);
+                    if (u != v) {
+                        addEdge(u, v, graph.getWeight(e), e, -1, -1);
+                    }
+                }
+            }
+        }
+
+        void contract() {
+            IntStream.range(0, n).parallel().forEach((v) -> {
+                priorities[v] = priority(v);
+            });
+
+            int rank = 0;
+            while (rank < n) {
+                final int[] candidates = IntStream.range(0, n).parallel()
+                        .filter((v) -> !contracted[v] && isLocalMinimum(v))
+                        .toArray();
+
+                // lazy update: recompute stale priorities right before contraction
+                IntStream.of(candidates).parallel().filter((v) -> dirty[v]).forEach((v) -> {
+                    priorities[v] = priority(v);
+                    dirty[v] = false;
+                });
+                final int[] selected = IntStream.of(candidates).filter(this::isLocalMinimum).toArray();
+                if (selected.length == 0) {
+                    continue;
+                }
+
+                for (int v : selected) {
+                    inRound[v] = true;
+                }
+                @SuppressWarnings({"unchecked", "rawtypes"})
+                final List<Shortcut>[] shortcuts = new List[selected.length];
+                IntStream.range(0, selected.length).parallel().forEach((i) -> {
+                    shortcuts[i] = shortcuts(selected[i], true);
+                });
+
+                for (int i = 0; i < selected.length; i++) {
+                    final int v = selected[i];
+                    inRound[v] = false;
+                    contracted[v] = true;
+                    ranks[v] = rank++;
+                    for (int j = 0; j < outSizes[v]; j++) {
+                        final int neighbor = targets[out[v][j]];
+                        remove(in, inSizes, neighbor, out[v][j]);
+                        touch(neighbor);
+                    }
+                    for (int j = 0; j < inSizes[v]; j++) {
+                        final int neighbor = sources[in[v][j]];
+                        remove(out, outSizes, neighbor, in[v][j]);
+                        touch(neighbor);
+                    }
+                    for (Shortcut shortcut : shortcuts[i]) {
+                        addEdge(shortcut.source, shortcut.target, shortcut.weight, -1,
+                                shortcut.first, shortcut.second);
+                    }
+                }
+            }
+        }
+
+        private void touch(int neighbor) {
+            contractedNeighbors[neighbor]++;
+            dirty[neighbor] = true;
+        }
+
+        /**
+         * Compare two nodes by priority and id.
+         */
+        private boolean isLess(int node, int otherNode) {
+            return priorities[node] < priorities[otherNode]
+                    || (priorities[node] == priorities[otherNode] && node < otherNode);
+        }
+
+        private boolean isLocalMinimum(int v) {
+            for (int j = 0; j < outSizes[v]; j++) {
+                if (isLess(targets[out[v][j]], v)) {
+                    return false;
+                }
+            }
+            for (int j = 0; j < inSizes[v]; j++) {
+                if (isLess(sources[in[v][j]], v)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * The edge difference of a node plus the number of its contracted
+         * neighbors, which spreads contraction evenly across the graph.
+         */
+        private int priority(int v) {
+            return shortcuts(v, false).size() - outSizes[v] - inSizes[v] + contractedNeighbors[v];
+        }
+
+        /**
+         * Find the shortcuts needed when contracting a node.
+         *
+         * @param v The node to contract
+         * @param ignoreRound True to let witness paths avoid all nodes
+         * contracted in the current round
+         * @return The shortcuts
+         */
+        private List<Shortcut> shortcuts(int v, boolean ignoreRound) {
+            final List<Shortcut> shortcuts = new ArrayList<>();
+            if (outSizes[v] == 0 || inSizes[v] == 0) {
+                return shortcuts;
+            }
+            final SearchContext context = SearchContext.forCurrentThread(WITNESS_CONTEXT);
+
+            for (int i = 0; i < inSizes[v]; i++) {
+                final int incoming = in[v][i];
+                final int u = sources[incoming];
+
+                double maxCosts = -1.0d;
+                for (int j = 0; j < outSizes[v]; j++) {
+                    final int w = targets[out[v][j]];
+                    if (w != u) {
+                        maxCosts = Math.max(maxCosts, weights[incoming] + weights[out[v][j]]);
+                    }
+                }
+                if (maxCosts < 0.0d) {
+                    continue;
+                }
+
+                witnessSearch(context, u, v, maxCosts, ignoreRound);
+
+                for (int j = 0; j < outSizes[v]; j++) {
+                    final int outgoing = out[v][j];
+                    final int w = targets[outgoing];
+                    final double via = weights[incoming] + weights[outgoing];
+                    if (w != u && context.getCosts(w) > via) {
+                        shortcuts.add(new Shortcut(u, w, via, incoming, outgoing));
+                    }
+                }
+            }
+            return shortcuts;
+        }
+
+        private void witnessSearch(SearchContext context, int source, int excluded,
+                double maxCosts, boolean ignoreRound) {
+            context.reset(n);
+            context.update(source, 0.0d, -1);
+            final NodePriorityQueue queue = context.getQueue();
+            queue.add(source, 0.0d);
+
+            int settled = 0;
+            while (!queue.isEmpty() && queue.peekKey() <= maxCosts && settled++ < WITNESS_SETTLE_LIMIT) {
+                final int node = queue.poll();
+                final double costs = context.getCosts(node);
+                for (int j = 0; j < outSizes[node]; j++) {
+                    final int e = out[node][j];
+                    final int successor = targets[e];
+                    if (successor == excluded || (ignoreRound && inRound[successor])) {
+                        continue;
+                    }
+                    final double altCosts = costs + weights[e];
+                    if (altCosts < context.getCosts(successor)) {
+                        context.update(successor, altCosts, node);
+                        queue.addOrDecreaseKey(successor, altCosts);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Add an edge between two remaining nodes, unless there already is
+         * one that is not more expensive, which is replaced otherwise.
+         */
+        private void addEdge(int u, int v, double weight, int original, int first, int second) {
+            for (int j = 0; j < outSizes[u]; j++) {
+                final int e = out[u][j];
+                if (targets[e] == v) {
+                    if (weights[e] <= weight) {
+                        return;
+                    }
+                    dead[e] = true;
+                    remove(out, outSizes, u, e);
+                    remove(in, inSizes, v, e);
+                    break;
+                }
+            }
+
+            if (edgeCount == sources.length) {
+                final int capacity = 2 * edgeCount;
+                sources = Arrays.copyOf(sources, capacity);
+                targets = Arrays.copyOf(targets, capacity);
+                originals = Arrays.copyOf(originals, capacity);
+                firstChildren = Arrays.copyOf(firstChildren, capacity);
+                secondChildren = Arrays.copyOf(secondChildren, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+                dead = Arrays.copyOf(dead, capacity);
+            }
+            final int e = edgeCount++;
+            sources[e] = u;
+            targets[e] = v;
+            weights[e] = weight;
+            originals[e] = original;
+            firstChildren[e] = first;
+            secondChildren[e] = second;
+
+            append(out, outSizes, u, e);
+            append(in, inSizes, v, e);
+        }
+
+        private static void append(int[][] lists, int[] sizes, int node, int edge) {
+            if (sizes[node] == lists[node].length) {
+                lists[node] = Arrays.copyOf(lists[node], 2 * lists[node].length);
+            }
+            lists[node][sizes[node]++] = edge;
+        }
+
+        private static void remove(int[][] lists, int[] sizes, int node, int edge) {
+            final int[] list = lists[node];
+            for (int j = 0; j < sizes[node]; j++) {
+                if (list[j] == edge) {
+                    list[j] = list[--sizes[node]];
+                    return;
+                }
+            }
+        }
+    }
+}
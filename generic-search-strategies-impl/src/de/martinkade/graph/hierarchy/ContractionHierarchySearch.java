@@ -0,0 +1,179 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.hierarchy;
+
+import de.martinkade.graph.Criteria;
+import de.martinkade.graph.IndexedGraph;
+import de.martinkade.graph.Node;
+import de.martinkade.graph.Path;
+import de.martinkade.graph.search.NodePriorityQueue;
+import de.martinkade.graph.search.SearchContext;
+import de.martinkade.graph.search.Strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Point-to-point search on a {@link ContractionHierarchy}. A forward search
+ * from the start node only follows upward edges, a backward search from the
+ * target node only follows downward edges in reverse, and the cheapest path
+ * meets at its node of highest rank. Both searches stop once their queue
+ * minimum is not smaller than the best path found so far.
+ * <p/>
+ * The shortcuts of the path found are unpacked into the original edges, so the
+ * returned {@link Path} is a path of the searched graph.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <T> Content type of the node
+ * @param <C> The {@link Criteria} implementation that enables to compare
+ * {@link Node} instances to each other
+ */
+public class ContractionHierarchySearch<T, C extends Criteria> extends Strategy<T, C> {
+
+    /**
+     * The preprocessed hierarchy.
+     */
+    protected final ContractionHierarchy<T, C> hierarchy;
+
+    /**
+     * The per-query state of the backward search.
+     */
+    protected SearchContext backwardContext;
+
+    /**
+     * Constructor.
+     *
+     * @param startNode The node for the algorithm to start at. See
+     * {@link #execute(de.martinkade.graph.Graph, de.martinkade.graph.Node)}
+     * @param hierarchy The contraction hierarchy of the graph to search
+     */
+    public ContractionHierarchySearch(Node<T, C> startNode, ContractionHierarchy<T, C> hierarchy) {
+        super(startNode);
+        this.hierarchy = hierarchy;
+    }
+
+    /**
+     * Both searches remember the edge of the hierarchy they reached a node
+     * by, instead of the predecessor node.
+     *
+     * @param graph
+     */
+    @Override
+    protected void setup(IndexedGraph<T, C> graph) {
+        if (graph.size() != hierarchy.getGraph().size()) {
+            throw new IllegalArgumentException("the hierarchy has been built for another graph");
+        }
+        if (startNode.getId() >= 0) {
+            context.update(startNode.getId(), 0.0d, -1);
+            context.getQueue().add(startNode.getId(), 0.0d);
+        }
+        backwardContext = SearchContext.forCurrentThread(1);
+        backwardContext.reset(graph.size());
+    }
+
+    @Override
+    protected void search(IndexedGraph<T, C> graph, Node<T, C> targetNode) {
+        final int target = targetNode.getId();
+        double best = Double.POSITIVE_INFINITY;
+        int meeting = -1;
+
+        if (startNode.getId() >= 0 && target >= 0) {
+            backwardContext.update(target, 0.0d, -1);
+            backwardContext.getQueue().add(target, 0.0d);
+
+            final NodePriorityQueue forwardQueue = context.getQueue();
+            final NodePriorityQueue backwardQueue = backwardContext.getQueue();
+            while (true) {
+                final boolean forwardDone = forwardQueue.isEmpty() || forwardQueue.peekKey() >= best;
+                final boolean backwardDone = backwardQueue.isEmpty() || backwardQueue.peekKey() >= best;
+                if (forwardDone && backwardDone) {
+                    break;
+                }
+                final boolean forward = !forwardDone
+                        && (backwardDone || forwardQueue.peekKey() <= backwardQueue.peekKey());
+                final SearchContext own = forward ? context : backwardContext;
+                final SearchContext other = forward ? backwardContext : context;
+                final NodePriorityQueue queue = forward ? forwardQueue : backwardQueue;
+
+                final int node = queue.poll();
+                own.setVisited(node);
+                final double costs = own.getCosts(node);
+                final double total = costs + other.getCosts(node);
+                if (total < best) {
+                    best = total;
+                    meeting = node;
+                }
+
+                final int begin = forward ? hierarchy.firstUpEdge(node) : hierarchy.firstDownEdge(node);
+                final int end = forward ? hierarchy.endUpEdge(node) : hierarchy.endDownEdge(node);
+                own.addRelaxedEdges(end - begin);
+                for (int i = begin; i < end; i++) {
+                    final int e = forward ? hierarchy.getUpEdge(i) : hierarchy.getDownEdge(i);
+                    final int successor = forward ? hierarchy.getTarget(e) : hierarchy.getSource(e);
+                    final double altCosts = costs + hierarchy.getWeight(e);
+                    if (altCosts < own.getCosts(successor)) {
+                        own.update(successor, altCosts, e);
+                        queue.addOrDecreaseKey(successor, altCosts);
+                    }
+                }
+            }
+        }
+
+        final List<Integer> edges = new ArrayList<>();
+        if (meeting >= 0) {
+            final List<Integer> upward = new ArrayList<>();
+            for (int node = meeting, e = context.getPredecessor(node); e >= 0; e = context.getPredecessor(node)) {
+                upward.add(e);
+                node = hierarchy.getSource(e);
+            }
+            for (int i = upward.size() - 1; i >= 0; i--) {
+                hierarchy.unpack(upward.get(i), edges);
+            }
+            for (int node = meeting, e = backwardContext.getPredecessor(node); e >= 0; e = backwardContext.getPredecessor(node)) {
+                hierarchy.unpack(e, edges);
+                node = hierarchy.getTarget(e);
+            }
+        }
+
+        // replace the edge references by the predecessor chain of the path, the
+        // counters of the upward searches have to be taken before the reset
+        statistics.add(context);
+        statistics.add(backwardContext);
+        context.reset(graph.size());
+        if (meeting >= 0) {
+            int node = startNode.getId();
+            double costs = 0.0d;
+            context.update(node, costs, -1);
+            for (int e : edges) {
+                final int successor = graph.getTarget(e);
+                costs += graph.getWeight(e);
+                context.update(successor, costs, node);
+                node = successor;
+            }
+        }
+    }
+
+}
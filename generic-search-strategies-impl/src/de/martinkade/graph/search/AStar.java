@@ -24,12 +24,16 @@
 package de.martinkade.graph.search;
 
 import de.martinkade.graph.Criteria;
-import de.martinkade.graph.Graph;
+import de.martinkade.graph.Estimator;
 import de.martinkade.graph.Heuristic;
+import de.martinkade.graph.IndexedGraph;
 import de.martinkade.graph.Node;
-import de.martinkade.graph.Path;
 
 /**
+ * Goal-directed variant of {@link Dijkstra}. Nodes are queued by their costs
+ * plus the remaining costs to the target node as estimated by an
+ * {@link Estimator}, so nodes leading towards the target are settled first.
+ * The returned path is a cheapest one as long as the estimator is admissible.
  *
  * @author martinkade
  * @version 2015-10-07
@@ -40,27 +44,72 @@ import de.martinkade.graph.Path;
  */
 public class AStar<T, C extends Criteria> extends Dijkstra<T, C> {
 
+    /**
+     * The {@link Estimator} of the remaining costs to the target node.
+     */
+    protected final Estimator<T, C> estimator;
+
+    /**
+     * A {@link Heuristic} implementation to be able to order a collection of
+     * {@link Node}s.
+     *
+     * @deprecated Nodes are ordered by their costs plus the estimate of the
+     * {@link #estimator}
+     */
+    @Deprecated
+    protected final Heuristic<T, C> heuristic;
+
     /**
      * Constructor.
      *
      * @param startNode The node for the algorithm to start at. See
      * {@link #execute(de.martinkade.graph.Graph, de.martinkade.graph.Node)}
+     * @param estimator A specific {@link Estimator} implementation for the
+     * problem the search algorithm is used for
+     */
+    public AStar(Node<T, C> startNode, Estimator<T, C> estimator) {
+        this(startNode, estimator, QueueType.BINARY_HEAP, 1.0d);
+    }
+
+    /**
+     * Constructor selecting the queue, see
+     * {@link Dijkstra#Dijkstra(de.martinkade.graph.Node, QueueType, double)}.
+     * The monotone queues additionally need a consistent estimator, one that
+     * never drops by more than the weight of an edge along it.
+     *
+     * @param startNode The node for the algorithm to start at. See
+     * {@link #execute(de.martinkade.graph.Graph, de.martinkade.graph.Node)}
+     * @param estimator A specific {@link Estimator} implementation for the
+     * problem the search algorithm is used for
+     * @param queueType The queue implementation
+     * @param scale The factor turning keys into integers
+     */
+    public AStar(Node<T, C> startNode, Estimator<T, C> estimator, QueueType queueType, double scale) {
+        super(startNode, queueType, scale);
+        this.estimator = estimator;
+        this.heuristic = null;
+    }
+
+    /**
+     * Constructor. Without an {@link Estimator} the search settles the same
+     * nodes as {@link Dijkstra}.
+     *
+     * @param startNode The node for the algorithm to start at. See
+     * {@link #execute(de.martinkade.graph.Graph, de.martinkade.graph.Node)}
      * @param heuristic A specific {@link Heuristic} implmentation for the
      * problem the search algorithm is used for
+     * @deprecated Use {@link #AStar(de.martinkade.graph.Node, de.martinkade.graph.Estimator)}
      */
+    @Deprecated
     public AStar(Node<T, C> startNode, Heuristic<T, C> heuristic) {
         super(startNode);
+        this.estimator = (Node<T, C> node, Node<T, C> targetNode) -> 0.0d;
         this.heuristic = heuristic;
     }
 
     @Override
-    protected void setup(Graph<T, C> graph) {
-        super.setup(graph);
-    }
-
-    @Override
-    public Path<T, C> execute(Graph<T, C> graph, Node<T, C> targetNode) {
-        return super.execute(graph, targetNode);
+    protected double estimate(IndexedGraph<T, C> graph, int node, Node<T, C> targetNode) {
+        return estimator.estimate(graph.getNode(node), targetNode);
     }
 
 }
@@ -0,0 +1,227 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.Criteria;
+import de.martinkade.graph.Graph;
+import de.martinkade.graph.IndexedGraph;
+import de.martinkade.graph.Node;
+import de.martinkade.graph.Path;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * This class executes batches of independent queries on a read-only graph in
+ * parallel. The queries are split recursively into tasks of a
+ * {@link ForkJoinPool}, so idle workers steal work from busy ones. Every
+ * worker searches with the pooled {@link SearchContext} of its thread, and
+ * the results are returned in the order of the queries.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <T> Content type of the node
+ * @param <C> The {@link Criteria} implementation that enables to compare
+ * {@link Node} instances to each other
+ */
+public class BatchExecutor<T, C extends Criteria> {
+
+    /**
+     * The number of queries a task executes without splitting any further.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 16;
+
+    /**
+     * Creates the {@link Strategy} for the start node of a query.
+     */
+    private final Function<Node<T, C>, Strategy<T, C>> factory;
+
+    /**
+     * The pool executing the queries.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor using the common {@link ForkJoinPool}.
+     *
+     * @param factory Creates the {@link Strategy} for the start node of a
+     * query, for example <code>Dijkstra::new</code>
+     */
+    public BatchExecutor(Function<Node<T, C>, Strategy<T, C>> factory) {
+        this(factory, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param factory Creates the {@link Strategy} for the start node of a
+     * query, for example <code>Dijkstra::new</code>
+     * @param pool The pool executing the queries
+     */
+    public BatchExecutor(Function<Node<T, C>, Strategy<T, C>> factory, ForkJoinPool pool) {
+        this.factory = factory;
+        this.pool = pool;
+    }
+
+    /**
+     * Execute a batch of queries on the {@link Graph#compile()} snapshot.
+     *
+     * @param graph The graph to search
+     * @param queries The queries
+     * @return The paths in the order of the queries, and the throughput
+     */
+    public Result<T, C> execute(Graph<T, C> graph, List<Query<T, C>> queries) {
+        return execute(graph.compile(), queries);
+    }
+
+    /**
+     * Execute a batch of queries.
+     *
+     * @param graph The graph to search, which must not change during the
+     * execution
+     * @param queries The queries
+     * @return The paths in the order of the queries, and the throughput
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Result<T, C> execute(IndexedGraph<T, C> graph, List<Query<T, C>> queries) {
+        final Query<T, C>[] batch = queries.toArray(new Query[queries.size()]);
+        final Path<T, C>[] paths = new Path[batch.length];
+
+        final long startNanos = System.nanoTime();
+        pool.invoke(new Task(graph, batch, paths, 0, batch.length));
+        return new Result<>(Arrays.asList(paths), System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Executes a range of queries, splitting it in halves as long as it is
+     * larger than {@link #SEQUENTIAL_THRESHOLD}.
+     */
+    private final class Task extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final IndexedGraph<T, C> graph;
+        private final Query<T, C>[] queries;
+        private final Path<T, C>[] paths;
+        private final int from, to;
+
+        Task(IndexedGraph<T, C> graph, Query<T, C>[] queries, Path<T, C>[] paths, int from, int to) {
+            this.graph = graph;
+            this.queries = queries;
+            this.paths = paths;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    final Query<T, C> query = queries[i];
+                    paths[i] = factory.apply(query.getStartNode()).execute(graph, query.getTargetNode());
+                }
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(new Task(graph, queries, paths, from, middle),
+                    new Task(graph, queries, paths, middle, to));
+        }
+    }
+
+    /**
+     * A single query from a start to a target node.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link Criteria} implementation
+     */
+    public static final class Query<T, C extends Criteria> {
+
+        private final Node<T, C> startNode, targetNode;
+
+        /**
+         * Constructor.
+         *
+         * @param startNode The node to start at
+         * @param targetNode The node to find a path to
+         */
+        public Query(Node<T, C> startNode, Node<T, C> targetNode) {
+            this.startNode = startNode;
+            this.targetNode = targetNode;
+        }
+
+        public Node<T, C> getStartNode() {
+            return startNode;
+        }
+
+        public Node<T, C> getTargetNode() {
+            return targetNode;
+        }
+    }
+
+    /**
+     * The result of a batch.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link Criteria} implementation
+     */
+    public static final class Result<T, C extends Criteria> {
+
+        private final List<Path<T, C>> paths;
+        private final long elapsedNanos;
+
+        Result(List<Path<T, C>> paths, long elapsedNanos) {
+            this.paths = Collections.unmodifiableList(paths);
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         *
+         * @return The paths in the order of the queries
+         */
+        public List<Path<T, C>> getPaths() {
+            return paths;
+        }
+
+        /**
+         *
+         * @return The wall clock time of the batch in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         *
+         * @return The number of queries executed per second
+         */
+        public double getQueriesPerSecond() {
+            return elapsedNanos == 0L ? 0.0d : paths.size() * 1e9d / elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.Criteria;
+import de.martinkade.graph.IndexedGraph;
+import de.martinkade.graph.Node;
+
+/**
+ * Point-to-point variant of {@link Dijkstra} searching forward from the start
+ * node and backward from the target node at the same time. The backward search
+ * runs on {@link IndexedGraph#reverse()}. Both searches alternate, always
+ * expanding the direction with the smaller queue minimum, and stop as soon as
+ * the sum of both minima is not smaller than the best path found so far.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <T> Content type of the node
+ * @param <C> The {@link Criteria} implementation that enables to compare
+ * {@link Node} instances to each other
+ */
+public class BidirectionalDijkstra<T, C extends Criteria> extends Strategy<T, C> {
+
+    /**
+     * The per-query state of the backward search.
+     */
+    protected SearchContext backwardContext;
+
+    /**
+     * Constructor.
+     *
+     * @param startNode The node for the algorithm to start at. See
+     * {@link #execute(de.martinkade.graph.Graph, de.martinkade.graph.Node)}
+     */
+    public BidirectionalDijkstra(Node<T, C> startNode) {
+        super(startNode);
+    }
+
+    @Override
+    protected void setup(IndexedGraph<T, C> graph) {
+        if (startNode.getId() >= 0) {
+            context.update(startNode.getId(), 0.0d, -1);
+            context.getQueue().add(startNode.getId(), 0.0d);
+        }
+        backwardContext = SearchContext.forCurrentThread(1);
+        backwardContext.reset(graph.size());
+    }
+
+    @Override
+    protected void search(IndexedGraph<T, C> graph, Node<T, C> targetNode) {
+        final int target = targetNode.getId();
+        if (startNode.getId() < 0 || target < 0) {
+            return;
+        }
+        backwardContext.update(target, 0.0d, -1);
+        backwardContext.getQueue().add(target, 0.0d);
+
+        final IndexedGraph<T, C> reverse = graph.reverse();
+        final NodePriorityQueue forwardQueue = context.getQueue();
+        final NodePriorityQueue backwardQueue = backwardContext.getQueue();
+
+        double best = Double.POSITIVE_INFINITY;
+        int meeting = startNode.getId() == target ? target : -1;
+        if (meeting >= 0) {
+            best = 0.0d;
+        }
+
+        while (!forwardQueue.isEmpty() && !backwardQueue.isEmpty()) {
+            final double forwardMin = forwardQueue.peekKey();
+            final double backwardMin = backwardQueue.peekKey();
+            if (forwardMin + backwardMin >= best) {
+                break;
+            }
+
+            final boolean forward = forwardMin <= backwardMin;
+            final IndexedGraph<T, C> g = forward ? graph : reverse;
+            final SearchContext own = forward ? context : backwardContext;
+            final SearchContext other = forward ? backwardContext : context;
+            final NodePriorityQueue queue = forward ? forwardQueue : backwardQueue;
+
+            final int node = queue.poll();
+            own.setVisited(node);
+
+            final double costs = own.getCosts(node);
+            own.addRelaxedEdges(g.endEdge(node) - g.firstEdge(node));
+            for (int e = g.firstEdge(node), end = g.endEdge(node); e < end; e++) {
+                final int successor = g.getTarget(e);
+                final double altCosts = costs + g.getWeight(e);
+                if (altCosts < own.getCosts(successor)) {
+                    own.update(successor, altCosts, node);
+                    queue.addOrDecreaseKey(successor, altCosts);
+                }
+                final double total = own.getCosts(successor) + other.getCosts(successor);
+                if (total < best) {
+                    best = total;
+                    meeting = successor;
+                }
+            }
+        }
+
+        statistics.add(backwardContext);
+        if (meeting >= 0) {
+            // append the backward half to the forward predecessor chain
+            int node = meeting;
+            int next = backwardContext.getPredecessor(node);
+            while (next >= 0) {
+                context.update(next, best - backwardContext.getCosts(next), node);
+                node = next;
+                next = backwardContext.getPredecessor(node);
+            }
+        }
+    }
+
+}
@@ -24,11 +24,16 @@
 package de.martinkade.graph.search;
 
 import de.martinkade.graph.Criteria;
-import de.martinkade.graph.Graph;
+import de.martinkade.graph.IndexedGraph;
 import de.martinkade.graph.Node;
 import de.martinkade.graph.Path;
 
 /**
+ * Breadth-first search for the path with the fewest edges. The frontier is a
+ * FIFO queue backed by {@link SearchContext#getFrontier()}, and nodes are
+ * marked in the visited bit set of the context as soon as they are
+ * discovered, so the search stops right when the target node is discovered.
+ * The costs of the returned {@link Path} are the summed weights of its edges.
  *
  * @author martinkade
  * @version 2015-10-07
@@ -50,13 +55,44 @@ public class BreadthFirst<T, C extends Criteria> extends Strategy<T, C> {
     }
 
     @Override
-    protected void setup(Graph<T, C> graph) {
-        throw new UnsupportedOperationException("Not supported yet.");
+    protected void setup(IndexedGraph<T, C> graph) {
+        if (startNode.getId() >= 0) {
+            context.update(startNode.getId(), 0.0d, -1);
+            context.setVisited(startNode.getId());
+        }
     }
 
     @Override
-    public Path<T, C> execute(Graph<T, C> graph, Node<T, C> targetNode) {
-        return super.execute(graph, targetNode);
+    protected void search(IndexedGraph<T, C> graph, Node<T, C> targetNode) {
+        final int target = targetNode.getId();
+        final int[] queue = context.getFrontier();
+        int head = 0;
+        int tail = 0;
+        long relaxed = 0L;
+        if (startNode.getId() >= 0 && startNode.getId() != target) {
+            queue[tail++] = startNode.getId();
+        }
+
+        search:
+        while (head < tail) {
+            final int node = queue[head++];
+            final double costs = context.getCosts(node);
+            for (int e = graph.firstEdge(node), end = graph.endEdge(node); e < end; e++) {
+                relaxed++;
+                final int successor = graph.getTarget(e);
+                if (context.isVisited(successor)) {
+                    continue;
+                }
+                context.setVisited(successor);
+                context.update(successor, costs + graph.getWeight(e), node);
+                if (successor == target) {
+                    break search;
+                }
+                queue[tail++] = successor;
+            }
+        }
+
+        context.addRelaxedEdges(relaxed);
     }
 
 }
@@ -0,0 +1,122 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import java.util.Arrays;
+
+/**
+ * Monotone bucket queue after Dial. Every integer key has its own bucket in a
+ * circular array, and polling scans the buckets upward from the key of the
+ * last polled node. This is the fastest queue when the weights are small
+ * integers, since all queued keys lie within the largest weight (plus the
+ * largest estimate difference for {@link AStar}) of the last polled key. The
+ * array grows to the next power of two whenever a key falls outside its
+ * range, so its size follows the largest weight rather than the path costs.
+ * <p/>
+ * See {@link IntegerNodeQueue} for the requirements on the keys.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public final class BucketQueue extends IntegerNodeQueue {
+
+    /**
+     * The largest number of buckets.
+     */
+    private static final int MAX_BUCKETS = 1 << 30;
+
+    /**
+     * The largest integer key queued since the last {@link #clear(int)}, all
+     * queued keys lie between {@link #last} and this key.
+     */
+    private long high;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The number of nodes, ids range from 0 to capacity - 1
+     * @param scale The factor turning keys into integers, 1 for integer keys
+     */
+    public BucketQueue(int capacity, double scale) {
+        super(capacity, scale, 1024);
+    }
+
+    @Override
+    public void clear(int capacity) {
+        super.clear(capacity);
+        high = 0L;
+    }
+
+    /**
+     * Only the buckets of the keys from {@link #last} up to {@link #high} can
+     * hold nodes, so a queue that has grown for one query does not slow down
+     * the following ones.
+     */
+    @Override
+    protected void clearBuckets() {
+        final int mask = heads.length - 1;
+        for (long key = last; key <= high; key++) {
+            clearBucket((int) (key & mask));
+        }
+    }
+
+    @Override
+    protected int first() {
+        final int mask = heads.length - 1;
+        while (heads[(int) (last & mask)] < 0) {
+            last++;
+        }
+        return (int) (last & mask);
+    }
+
+    @Override
+    protected int bucketOf(long integerKey) {
+        final long span = integerKey - last;
+        if (span >= heads.length) {
+            grow(span);
+        }
+        high = Math.max(high, integerKey);
+        return (int) (integerKey & (heads.length - 1));
+    }
+
+    private void grow(long span) {
+        if (span >= MAX_BUCKETS) {
+            throw new IllegalArgumentException(
+                    String.format("key range %d exceeds the buckets, use a smaller scale", span)
+            );
+        }
+        final int[] old = heads;
+        heads = new int[Integer.highestOneBit((int) span) << 1];
+        Arrays.fill(heads, -1);
+        final int mask = heads.length - 1;
+        for (int bucket = 0; bucket < old.length; bucket++) {
+            int id = old[bucket];
+            while (id >= 0) {
+                final int successor = next[id];
+                link(id, (int) (integerKeys[id] & mask));
+                id = successor;
+            }
+        }
+    }
+}
@@ -0,0 +1,450 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.Criteria;
+import de.martinkade.graph.IndexedGraph;
+import de.martinkade.graph.Node;
+
+import java.util.Arrays;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parallel delta-stepping (Meyer, Sanders 2003). Reached nodes are kept in
+ * buckets of width Δ by their tentative costs. The nodes of the lowest bucket
+ * relax their light edges (weight up to Δ) in parallel until the bucket stays
+ * empty, then all nodes removed from the bucket relax their heavy edges in
+ * parallel, and the next bucket follows. Tentative costs are lowered with
+ * compare-and-set, so the tasks do not need any locks.
+ * <p/>
+ * Δ is derived from the weights of the graph unless it is given: the mean
+ * weight of a sample of edges, so a bucket holds about one hop of the
+ * wavefront. The costs equal the ones of {@link Dijkstra}.
+ * <p/>
+ * The {@link SearchStatistics} count the nodes removed from the buckets as
+ * settled. There is no priority queue, so pushes, polls and key decreases
+ * stay 0.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <T> Content type of the node
+ * @param <C> The {@link Criteria} implementation that enables to compare
+ * {@link Node} instances to each other
+ */
+public class DeltaStepping<T, C extends Criteria> extends Strategy<T, C> {
+
+    /**
+     * The number of nodes a task relaxes without splitting any further.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+
+    /**
+     * The maximum number of edges sampled to derive Δ.
+     */
+    private static final int DELTA_SAMPLE = 4096;
+
+    /**
+     * The raw long bits of {@link Double#POSITIVE_INFINITY}. The bits of
+     * non-negative doubles are ordered like their values.
+     */
+    private static final long UNREACHED = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+
+    /**
+     * The bucket width, 0 to derive it from the graph.
+     */
+    private final double delta;
+
+    /**
+     * The pool relaxing the edges.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor deriving Δ from the graph and using the common
+     * {@link ForkJoinPool}.
+     *
+     * @param startNode The node for the algorithm to start at. See
+     * {@link #execute(de.martinkade.graph.Graph, de.martinkade.graph.Node)}
+     */
+    public DeltaStepping(Node<T, C> startNode) {
+        this(startNode, 0.0d, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param startNode The node for the algorithm to start at
+     * @param delta The bucket width, 0 to derive it from the graph
+     * @param pool The pool relaxing the edges
+     */
+    public DeltaStepping(Node<T, C> startNode, double delta, ForkJoinPool pool) {
+        super(startNode);
+        if (delta < 0.0d) {
+            throw new IllegalArgumentException(String.format("negative delta: %f", delta));
+        }
+        this.delta = delta;
+        this.pool = pool;
+    }
+
+    @Override
+    protected void setup(IndexedGraph<T, C> graph) {
+        // the tentative costs are kept apart from the context during the search
+    }
+
+    @Override
+    protected void search(IndexedGraph<T, C> graph, Node<T, C> targetNode) {
+        final int start = startNode.getId();
+        final int target = targetNode.getId();
+        if (start < 0) {
+            return;
+        }
+        final LongAdder settled = new LongAdder();
+        final LongAdder relaxed = new LongAdder();
+        final AtomicLongArray costs = run(graph, start, target,
+                delta > 0.0d ? delta : delta(graph), pool, settled, relaxed);
+        context.addRelaxedEdges(relaxed.sum());
+
+        context.update(start, 0.0d, -1);
+        if (target < 0 || target == start || costs.get(target) == UNREACHED) {
+            context.addSettledNodes(settled.sum());
+            return;
+        }
+
+        // search backward from the target node over tight edges, whose
+        // weight equals the cost difference of their nodes; every tight chain
+        // from the target has final costs, and breadth-first search does not
+        // get stuck on zero-weight cycles the way a greedy walk does
+        final IndexedGraph<T, C> reverse = graph.reverse();
+        final int[] queue = context.getFrontier();
+        final int[] successors = context.getCursors();
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = target;
+        context.setVisited(target);
+        search:
+        while (head < tail) {
+            final int node = queue[head++];
+            final double nodeCosts = Double.longBitsToDouble(costs.get(node));
+            for (int e = reverse.firstEdge(node), end = reverse.endEdge(node); e < end; e++) {
+                final int source = reverse.getTarget(e);
+                if (!context.isVisited(source)
+                        && Double.longBitsToDouble(costs.get(source)) + reverse.getWeight(e) == nodeCosts) {
+                    context.setVisited(source);
+                    successors[source] = node;
+                    if (source == start) {
+                        break search;
+                    }
+                    queue[tail++] = source;
+                }
+            }
+        }
+        if (!context.isVisited(start)) {
+            throw new IllegalStateException(String.format("no tight path to node %d", target));
+        }
+        // the nodes marked visited above have been removed from their buckets
+        // and counted as settled already
+        context.addSettledNodes(settled.sum() - context.getVisitedCount());
+
+        for (int node = start; node != target; node = successors[node]) {
+            final int successor = successors[node];
+            context.update(successor, Double.longBitsToDouble(costs.get(successor)), node);
+        }
+    }
+
+    /**
+     * Compute the costs of the cheapest paths from a source node to all other
+     * nodes in parallel, deriving Δ from the graph and using the common
+     * {@link ForkJoinPool}.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link Criteria} implementation
+     * @param graph The graph to search
+     * @param source The id of the source node
+     * @return The costs of every node indexed by id,
+     * {@link Double#POSITIVE_INFINITY} for unreachable nodes
+     */
+    public static <T, C extends Criteria> double[] distances(IndexedGraph<T, C> graph, int source) {
+        return distances(graph, source, delta(graph), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Compute the costs of the cheapest paths from a source node to all other
+     * nodes in parallel.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link Criteria} implementation
+     * @param graph The graph to search
+     * @param source The id of the source node
+     * @param delta The bucket width
+     * @param pool The pool relaxing the edges
+     * @return The costs of every node indexed by id,
+     * {@link Double#POSITIVE_INFINITY} for unreachable nodes
+     */
+    public static <T, C extends Criteria> double[] distances(IndexedGraph<T, C> graph, int source,
+            double delta, ForkJoinPool pool) {
+        final AtomicLongArray costs = run(graph, source, -1, delta, pool, new LongAdder(), new LongAdder());
+        final double[] distances = new double[graph.size()];
+        for (int i = 0; i < distances.length; i++) {
+            distances[i] = Double.longBitsToDouble(costs.get(i));
+        }
+        return distances;
+    }
+
+    /**
+     * Derive the bucket width from the mean weight of evenly spread sample
+     * edges.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link Criteria} implementation
+     * @param graph The graph to search
+     * @return The bucket width, positive
+     */
+    public static <T, C extends Criteria> double delta(IndexedGraph<T, C> graph) {
+        final int m = graph.edgeCount();
+        final int step = Math.max(1, m / DELTA_SAMPLE);
+        double sum = 0.0d;
+        int count = 0;
+        for (int e = 0; e < m; e += step) {
+            sum += graph.getWeight(e);
+            count++;
+        }
+        final double mean = count == 0 ? 0.0d : sum / count;
+        return mean > 0.0d ? mean : 1.0d;
+    }
+
+    /**
+     *
+     * @param graph The graph to search
+     * @param source The id of the source node
+     * @param target The id of the target node, -1 to search all nodes
+     * @param delta The bucket width
+     * @param pool The pool relaxing the edges
+     * @param settled Counts the nodes removed from the buckets
+     * @param relaxed Counts the relaxed edges
+     * @return The tentative costs as raw long bits, final for all nodes if
+     * there is no target, and at least for the target otherwise
+     */
+    private static AtomicLongArray run(IndexedGraph<?, ?> graph, int source, int target,
+            double delta, ForkJoinPool pool, LongAdder settled, LongAdder relaxed) {
+        final int n = graph.size();
+        final AtomicLongArray costs = new AtomicLongArray(n);
+        for (int i = 0; i < n; i++) {
+            costs.set(i, UNREACHED);
+        }
+        costs.set(source, Double.doubleToRawLongBits(0.0d));
+
+        // stamps deduplicate the nodes of a phase and of a bucket
+        final int[] phaseStamps = new int[n];
+        final int[] bucketStamps = new int[n];
+        int phase = 0;
+        int bucketNumber = 0;
+
+        final TreeMap<Long, IntList> buckets = new TreeMap<>();
+        buckets.put(0L, IntList.of(source));
+        while (!buckets.isEmpty()) {
+            final long index = buckets.firstKey();
+            final IntList removed = new IntList();
+            bucketNumber++;
+
+            IntList bucket;
+            while ((bucket = buckets.remove(index)) != null) {
+                phase++;
+                final IntList nodes = new IntList();
+                for (int i = 0; i < bucket.size; i++) {
+                    final int node = bucket.data[i];
+                    // skip duplicates and nodes that have moved to a lower bucket since
+                    if (phaseStamps[node] != phase && bucketOf(costs, node, delta) == index) {
+                        phaseStamps[node] = phase;
+                        nodes.add(node);
+                        if (bucketStamps[node] != bucketNumber) {
+                            bucketStamps[node] = bucketNumber;
+                            removed.add(node);
+                        }
+                    }
+                }
+                distribute(relax(graph, costs, nodes, delta, true, pool, relaxed), costs, delta, buckets);
+            }
+            settled.add(removed.size);
+
+            if (target >= 0 && costs.get(target) != UNREACHED && bucketOf(costs, target, delta) <= index) {
+                break;
+            }
+            distribute(relax(graph, costs, removed, delta, false, pool, relaxed), costs, delta, buckets);
+        }
+        return costs;
+    }
+
+    /**
+     *
+     * @param graph The graph to search
+     * @param costs The tentative costs
+     * @param nodes The nodes whose edges are relaxed
+     * @param delta The bucket width
+     * @param light True for the edges up to Δ, false for the heavier ones
+     * @param pool The pool relaxing the edges
+     * @param relaxed Counts the relaxed edges
+     * @return The nodes whose costs have been lowered, maybe more than once
+     */
+    private static IntList relax(IndexedGraph<?, ?> graph, AtomicLongArray costs, IntList nodes,
+            double delta, boolean light, ForkJoinPool pool, LongAdder relaxed) {
+        final RelaxTask task = new RelaxTask(graph, costs, nodes, delta, light, relaxed, 0, nodes.size);
+        return nodes.size <= SEQUENTIAL_THRESHOLD ? task.compute() : pool.invoke(task);
+    }
+
+    /**
+     * Put the nodes into the buckets of their current costs.
+     *
+     * @param nodes The nodes whose costs have been lowered
+     * @param costs The tentative costs
+     * @param delta The bucket width
+     * @param buckets The buckets by index
+     */
+    private static void distribute(IntList nodes, AtomicLongArray costs, double delta,
+            TreeMap<Long, IntList> buckets) {
+        for (int i = 0; i < nodes.size; i++) {
+            final int node = nodes.data[i];
+            final long index = bucketOf(costs, node, delta);
+            IntList bucket = buckets.get(index);
+            if (bucket == null) {
+                bucket = new IntList();
+                buckets.put(index, bucket);
+            }
+            bucket.add(node);
+        }
+    }
+
+    /**
+     *
+     * @param costs The tentative costs
+     * @param node The id of a reached node
+     * @param delta The bucket width
+     * @return The index of the bucket of the node
+     */
+    private static long bucketOf(AtomicLongArray costs, int node, double delta) {
+        return (long) (Double.longBitsToDouble(costs.get(node)) / delta);
+    }
+
+    /**
+     * Relaxes the light or heavy edges of a range of nodes, splitting it in
+     * halves as long as it is larger than {@link #SEQUENTIAL_THRESHOLD}.
+     */
+    private static final class RelaxTask extends RecursiveTask<IntList> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient IndexedGraph<?, ?> graph;
+        private final AtomicLongArray costs;
+        private final transient IntList nodes;
+        private final double delta;
+        private final boolean light;
+        private final transient LongAdder relaxed;
+        private final int from, to;
+
+        RelaxTask(IndexedGraph<?, ?> graph, AtomicLongArray costs, IntList nodes, double delta,
+                boolean light, LongAdder relaxed, int from, int to) {
+            this.graph = graph;
+            this.costs = costs;
+            this.nodes = nodes;
+            this.delta = delta;
+            this.light = light;
+            this.relaxed = relaxed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected IntList compute() {
+            if (to - from > SEQUENTIAL_THRESHOLD) {
+                final int middle = (from + to) >>> 1;
+                final RelaxTask right = new RelaxTask(graph, costs, nodes, delta, light, relaxed, middle, to);
+                right.fork();
+                final IntList lowered = new RelaxTask(graph, costs, nodes, delta, light, relaxed, from, middle).compute();
+                lowered.addAll(right.join());
+                return lowered;
+            }
+
+            final IntList lowered = new IntList();
+            long count = 0L;
+            for (int i = from; i < to; i++) {
+                final int node = nodes.data[i];
+                final double nodeCosts = Double.longBitsToDouble(costs.get(node));
+                for (int e = graph.firstEdge(node), end = graph.endEdge(node); e < end; e++) {
+                    final double weight = graph.getWeight(e);
+                    if ((weight <= delta) != light) {
+                        continue;
+                    }
+                    count++;
+                    final int successor = graph.getTarget(e);
+                    final long altCosts = Double.doubleToRawLongBits(nodeCosts + weight);
+                    long current = costs.get(successor);
+                    while (altCosts < current) {
+                        if (costs.compareAndSet(successor, current, altCosts)) {
+                            lowered.add(successor);
+                            break;
+                        }
+                        current = costs.get(successor);
+                    }
+                }
+            }
+            relaxed.add(count);
+            return lowered;
+        }
+    }
+
+    /**
+     * A growable list of node ids.
+     */
+    private static final class IntList {
+
+        private int[] data = new int[16];
+
+        private int size;
+
+        static IntList of(int value) {
+            final IntList list = new IntList();
+            list.add(value);
+            return list;
+        }
+
+        void add(int value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+
+        void addAll(IntList other) {
+            if (size + other.size > data.length) {
+                data = Arrays.copyOf(data, Math.max(size + other.size, size * 2));
+            }
+            System.arraycopy(other.data, 0, data, size, other.size);
+            size += other.size;
+        }
+    }
+}
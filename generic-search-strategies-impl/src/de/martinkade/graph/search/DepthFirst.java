@@ -24,11 +24,18 @@
 package de.martinkade.graph.search;
 
 import de.martinkade.graph.Criteria;
-import de.martinkade.graph.Graph;
+import de.martinkade.graph.IndexedGraph;
 import de.martinkade.graph.Node;
 import de.martinkade.graph.Path;
 
 /**
+ * Iterative depth-first search, finding any path to the target node. The
+ * recursion is replaced by an explicit stack of nodes and edge cursors backed
+ * by {@link SearchContext#getFrontier()} and
+ * {@link SearchContext#getCursors()}, so deep graphs cannot overflow the call
+ * stack. Nodes are marked in the visited bit set of the context, and the
+ * search stops as soon as the target node is discovered. The costs of the
+ * returned {@link Path} are the summed weights of its edges.
  *
  * @author martinkade
  * @version 2015-10-07
@@ -50,13 +57,49 @@ public class DepthFirst<T, C extends Criteria> extends Strategy<T, C> {
     }
 
     @Override
-    protected void setup(Graph<T, C> graph) {
-        throw new UnsupportedOperationException("Not supported yet.");
+    protected void setup(IndexedGraph<T, C> graph) {
+        if (startNode.getId() >= 0) {
+            context.update(startNode.getId(), 0.0d, -1);
+            context.setVisited(startNode.getId());
+        }
     }
 
     @Override
-    public Path<T, C> execute(Graph<T, C> graph, Node<T, C> targetNode) {
-        return super.execute(graph, targetNode);
+    protected void search(IndexedGraph<T, C> graph, Node<T, C> targetNode) {
+        final int target = targetNode.getId();
+        final int[] stack = context.getFrontier();
+        final int[] cursors = context.getCursors();
+        int size = 0;
+        long relaxed = 0L;
+        if (startNode.getId() >= 0 && startNode.getId() != target) {
+            stack[size] = startNode.getId();
+            cursors[size++] = graph.firstEdge(startNode.getId());
+        }
+
+        while (size > 0) {
+            final int node = stack[size - 1];
+            final int e = cursors[size - 1];
+            if (e == graph.endEdge(node)) {
+                size--;
+                continue;
+            }
+            cursors[size - 1]++;
+            relaxed++;
+
+            final int successor = graph.getTarget(e);
+            if (context.isVisited(successor)) {
+                continue;
+            }
+            context.setVisited(successor);
+            context.update(successor, context.getCosts(node) + graph.getWeight(e), node);
+            if (successor == target) {
+                break;
+            }
+            stack[size] = successor;
+            cursors[size++] = graph.firstEdge(successor);
+        }
+
+        context.addRelaxedEdges(relaxed);
     }
 
 }
@@ -24,13 +24,10 @@
 package de.martinkade.graph.search;
 
 import de.martinkade.graph.Criteria;
-import de.martinkade.graph.Graph;
-import de.martinkade.graph.Heuristic;
+import de.martinkade.graph.IndexedGraph;
 import de.martinkade.graph.Node;
-import de.martinkade.graph.Path;
 
-import java.util.Iterator;
-import java.util.Map.Entry;
+import java.util.Arrays;
 
 /**
  *
@@ -44,23 +41,14 @@ import java.util.Map.Entry;
 public class Dijkstra<T, C extends Criteria> extends Strategy<T, C> {
 
     /**
-     * The {@link NodePriorityQueue} implemented as binary heap.
+     * The queue implementation of the search.
      */
-    protected NodePriorityQueue<T, C> priorityQueue;
+    protected final QueueType queueType;
 
     /**
-     * A {@link Heuristic} implementation to be able to order a collection of
-     * {@link Node}s.
+     * The factor turning keys into integers for the monotone queues.
      */
-    protected Heuristic<T, C> heuristic = (Node<T, C> node, Node<T, C> otherNode) -> {
-        if (otherNode.getCosts() < node.getCosts()) {
-            return 1;
-        }
-        if (otherNode.getCosts() > node.getCosts()) {
-            return -1;
-        }
-        return 0;
-    };
+    protected final double scale;
 
     /**
      * Constructor.
@@ -69,50 +57,133 @@ public class Dijkstra<T, C extends Criteria> extends Strategy<T, C> {
      * {@link #execute(de.martinkade.graph.Graph, de.martinkade.graph.Node)}
      */
     public Dijkstra(Node<T, C> startNode) {
+        this(startNode, QueueType.BINARY_HEAP, 1.0d);
+    }
+
+    /**
+     * Constructor selecting the queue. The monotone queues need non-negative
+     * weights and order the nodes by their costs times the scale, rounded down
+     * to an integer, so the returned path is a cheapest one if all weights
+     * are multiples of 1 / scale.
+     *
+     * @param startNode The node for the algorithm to start at. See
+     * {@link #execute(de.martinkade.graph.Graph, de.martinkade.graph.Node)}
+     * @param queueType The queue implementation
+     * @param scale The factor turning keys into integers, 1 for integer
+     * weights, 100 for weights with two decimal places and so on
+     */
+    public Dijkstra(Node<T, C> startNode, QueueType queueType, double scale) {
         super(startNode);
+        this.queueType = queueType;
+        this.scale = scale;
     }
 
     @Override
-    protected void setup(Graph<T, C> graph) {
-        startNode.setCosts(0.0d);
-
-        priorityQueue = new NodePriorityQueue<>();
-        graph.getNodes().stream().forEach((n) -> {
-            n.setHeuristic(heuristic);
-            priorityQueue.add(n);
-        });
+    protected void setup(IndexedGraph<T, C> graph) {
+        if (startNode.getId() >= 0) {
+            context.update(startNode.getId(), 0.0d, -1);
+            context.getQueue(queueType, scale).add(startNode.getId(), 0.0d);
+        }
     }
 
     @Override
-    public Path<T, C> execute(Graph<T, C> graph, Node<T, C> targetNode) {
-        super.execute(graph, targetNode);
-
-        Node<T, C> node;
+    protected void search(IndexedGraph<T, C> graph, Node<T, C> targetNode) {
+        final int target = targetNode.getId();
+        final NodeQueue priorityQueue = context.getQueue(queueType, scale);
         while (!priorityQueue.isEmpty()) {
-            node = priorityQueue.poll();
-
-            if (node.getSuccessors() != null) {
-                final Iterator entries = node.getSuccessors().entrySet().iterator();
-                while (entries.hasNext()) {
-                    final Entry<Node<T, C>, C> e = (Entry) entries.next();
-                    if (priorityQueue.contains(e.getKey())) {
-                        final double altCosts = node.getCosts() + e.getValue().numericRepresentation();
-                        if (altCosts < e.getKey().getCosts()) {
-                            e.getKey().setCosts(altCosts);
-                            e.getKey().setPredecessor(node);
-                        }
-                    }
+            final int node = priorityQueue.poll();
+            context.setVisited(node);
+
+            if (node == target) {
+                break;
+            }
+
+            final double costs = context.getCosts(node);
+            context.addRelaxedEdges(graph.endEdge(node) - graph.firstEdge(node));
+            for (int e = graph.firstEdge(node), end = graph.endEdge(node); e < end; e++) {
+                final int successor = graph.getTarget(e);
+                final double altCosts = costs + graph.getWeight(e);
+                if (altCosts < context.getCosts(successor)) {
+                    context.update(successor, altCosts, node);
+                    priorityQueue.addOrDecreaseKey(successor, altCosts + estimate(graph, successor, targetNode));
                 }
             }
+        }
+    }
+
+    /**
+     * Compute the costs of the cheapest paths from a source node to all other
+     * nodes, using the pooled {@link SearchContext} of the calling thread.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link Criteria} implementation
+     * @param graph The graph to search
+     * @param source The id of the source node
+     * @return The costs of every node indexed by id,
+     * {@link Double#POSITIVE_INFINITY} for unreachable nodes
+     */
+    public static <T, C extends Criteria> double[] distances(IndexedGraph<T, C> graph, int source) {
+        return distances(graph, source, QueueType.BINARY_HEAP, 1.0d);
+    }
 
-            if (node.equals(targetNode)) {
-                execTime = System.currentTimeMillis() - startMillis;
-                return new Path(targetNode);
+    /**
+     * Compute the costs of the cheapest paths from a source node to all other
+     * nodes with the given queue implementation, see
+     * {@link #Dijkstra(de.martinkade.graph.Node, QueueType, double)}.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link Criteria} implementation
+     * @param graph The graph to search
+     * @param source The id of the source node
+     * @param queueType The queue implementation
+     * @param scale The factor turning keys into integers
+     * @return The costs of every node indexed by id,
+     * {@link Double#POSITIVE_INFINITY} for unreachable nodes
+     */
+    public static <T, C extends Criteria> double[] distances(IndexedGraph<T, C> graph, int source,
+            QueueType queueType, double scale) {
+        final SearchContext context = SearchContext.forCurrentThread();
+        context.reset(graph.size());
+        context.update(source, 0.0d, -1);
+
+        final NodeQueue priorityQueue = context.getQueue(queueType, scale);
+        priorityQueue.add(source, 0.0d);
+        while (!priorityQueue.isEmpty()) {
+            final int node = priorityQueue.poll();
+            context.setVisited(node);
+
+            final double costs = context.getCosts(node);
+            for (int e = graph.firstEdge(node), end = graph.endEdge(node); e < end; e++) {
+                final int successor = graph.getTarget(e);
+                final double altCosts = costs + graph.getWeight(e);
+                if (altCosts < context.getCosts(successor)) {
+                    context.update(successor, altCosts, node);
+                    priorityQueue.addOrDecreaseKey(successor, altCosts);
+                }
             }
         }
 
-        execTime = System.currentTimeMillis() - startMillis;
-        return new Path(targetNode);
+        final double[] distances = new double[graph.size()];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        for (int i = 0; i < context.getVisitedCount(); i++) {
+            final int node = context.getVisitedNode(i);
+            distances[node] = context.getCosts(node);
+        }
+        return distances;
+    }
+
+    /**
+     * Estimate the remaining costs from a reached node to the target node. The
+     * nodes are queued by their costs plus this estimate, which is 0 for plain
+     * Dijkstra.
+     *
+     * @param graph The graph being searched
+     * @param node The id of the reached node
+     * @param targetNode The target node
+     * @return A lower bound of the remaining costs
+     */
+    protected double estimate(IndexedGraph<T, C> graph, int node, Node<T, C> targetNode) {
+        return 0.0d;
     }
 
 }
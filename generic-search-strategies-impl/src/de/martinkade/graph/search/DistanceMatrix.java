@@ -0,0 +1,153 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.Criteria;
+import de.martinkade.graph.Graph;
+import de.martinkade.graph.IndexedGraph;
+import de.martinkade.graph.Node;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * This class computes the costs of the cheapest paths between every source
+ * and every target node of two node sets. Every source runs a single
+ * one-to-all search that stops as soon as all targets have been settled, and
+ * the costs of the targets are then read from the search state instead of
+ * building a {@link de.martinkade.graph.Path} per pair. The sources are
+ * distributed across all cores, each using the pooled {@link SearchContext}
+ * of its thread.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public final class DistanceMatrix {
+
+    /**
+     * Hidden constructor.
+     */
+    private DistanceMatrix() {
+        // empty
+    }
+
+    /**
+     * Compute the cost matrix of the {@link Graph#compile()} snapshot.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link Criteria} implementation
+     * @param graph The graph to search
+     * @param sources The source nodes
+     * @param targets The target nodes
+     * @return The costs, <code>[i][j]</code> being the costs from source
+     * <code>i</code> to target <code>j</code>, {@link Double#POSITIVE_INFINITY}
+     * if the target cannot be reached
+     */
+    public static <T, C extends Criteria> double[][] compute(Graph<T, C> graph,
+            List<Node<T, C>> sources, List<Node<T, C>> targets) {
+        final int[] sourceIds = sources.stream().mapToInt(Node::getId).toArray();
+        final int[] targetIds = targets.stream().mapToInt(Node::getId).toArray();
+        final double[] costs = compute(graph.compile(), sourceIds, targetIds);
+
+        final double[][] matrix = new double[sourceIds.length][];
+        for (int i = 0; i < matrix.length; i++) {
+            matrix[i] = Arrays.copyOfRange(costs, i * targetIds.length, (i + 1) * targetIds.length);
+        }
+        return matrix;
+    }
+
+    /**
+     * Compute the cost matrix as a flat array in row-major order.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link Criteria} implementation
+     * @param graph The graph to search
+     * @param sources The source node ids
+     * @param targets The target node ids
+     * @return The costs, <code>[i * targets.length + j]</code> being the costs
+     * from source <code>i</code> to target <code>j</code>,
+     * {@link Double#POSITIVE_INFINITY} if the target cannot be reached
+     */
+    public static <T, C extends Criteria> double[] compute(IndexedGraph<T, C> graph,
+            int[] sources, int[] targets) {
+        final int n = graph.size();
+        final double[] costs = new double[sources.length * targets.length];
+
+        // mark every distinct target node once
+        final boolean[] isTarget = new boolean[n];
+        int distinctTargets = 0;
+        for (int target : targets) {
+            if (target >= 0 && !isTarget[target]) {
+                isTarget[target] = true;
+                distinctTargets++;
+            }
+        }
+        final int targetCount = distinctTargets;
+
+        IntStream.range(0, sources.length).parallel().forEach((i) -> {
+            final SearchContext context = SearchContext.forCurrentThread();
+            context.reset(n);
+            search(graph, context, sources[i], isTarget, targetCount);
+
+            final int row = i * targets.length;
+            for (int j = 0; j < targets.length; j++) {
+                costs[row + j] = targets[j] >= 0 ? context.getCosts(targets[j]) : Double.POSITIVE_INFINITY;
+            }
+        });
+        return costs;
+    }
+
+    /**
+     * One-to-all search stopping once all targets have been settled.
+     */
+    private static void search(IndexedGraph<?, ?> graph, SearchContext context, int source,
+            boolean[] isTarget, int targetCount) {
+        if (source < 0) {
+            return;
+        }
+        context.update(source, 0.0d, -1);
+        final NodePriorityQueue priorityQueue = context.getQueue();
+        priorityQueue.add(source, 0.0d);
+
+        int remaining = targetCount;
+        while (remaining > 0 && !priorityQueue.isEmpty()) {
+            final int node = priorityQueue.poll();
+            context.setVisited(node);
+            if (isTarget[node]) {
+                remaining--;
+            }
+
+            final double costs = context.getCosts(node);
+            for (int e = graph.firstEdge(node), end = graph.endEdge(node); e < end; e++) {
+                final int successor = graph.getTarget(e);
+                final double altCosts = costs + graph.getWeight(e);
+                if (altCosts < context.getCosts(successor)) {
+                    context.update(successor, altCosts, node);
+                    priorityQueue.addOrDecreaseKey(successor, altCosts);
+                }
+            }
+        }
+    }
+}
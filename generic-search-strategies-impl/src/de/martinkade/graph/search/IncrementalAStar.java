@@ -0,0 +1,429 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.CompactGraph;
+import de.martinkade.graph.Criteria;
+import de.martinkade.graph.Estimator;
+import de.martinkade.graph.Graph;
+import de.martinkade.graph.IndexedGraph;
+import de.martinkade.graph.Node;
+import de.martinkade.graph.Path;
+
+import java.util.Arrays;
+
+/**
+ * Lifelong Planning A* (Koenig, Likhachev, Furcy 2004) for tracking the path
+ * between a fixed start and target node while the weights of the graph
+ * change, see
+ * {@link Node#updateSuccessor(de.martinkade.graph.Node, de.martinkade.graph.Criteria)}.
+ * <p/>
+ * The search state is kept between calls of {@link #computePath()}. The next
+ * call picks up the weight changes from the graph and only repairs the part of
+ * the search that depends on the changed edges, so the work is proportional
+ * to the effect of the change rather than to the size of the graph. Any other
+ * change of the graph starts the search over.
+ * <p/>
+ * The estimator has to be consistent, that is never estimate more than the
+ * weight of an edge plus the estimate of its target. All weights the search
+ * looks at have to be strictly positive; nodes could otherwise keep up each
+ * other's costs along a zero-weight cycle after a weight increase. An edge
+ * with a weight of 0 or below fails {@link #computePath()} with an
+ * {@link IllegalArgumentException}, and the next call starts over.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <T> Content type of the node
+ * @param <C> The {@link Criteria} implementation that enables to compare
+ * {@link Node} instances to each other
+ */
+public class IncrementalAStar<T, C extends Criteria> {
+
+    /**
+     * The tracked graph.
+     */
+    private final Graph<T, C> graph;
+
+    /**
+     * The start and target node of the path.
+     */
+    private final Node<T, C> startNode, targetNode;
+
+    /**
+     * Estimates the remaining costs to the target node.
+     */
+    private final Estimator<T, C> estimator;
+
+    /**
+     * The snapshot the search state belongs to, null before the first search.
+     */
+    private CompactGraph<T, C> snapshot;
+
+    /**
+     * The costs of every node as of its last expansion.
+     */
+    private double[] costs;
+
+    /**
+     * The one-step lookahead costs of every node, the minimum of the costs of
+     * its predecessors plus the weight of the edge to it.
+     */
+    private double[] lookahead;
+
+    /**
+     * The predecessor every lookahead cost has been taken from, -1 for the
+     * start node and unreached nodes.
+     */
+    private int[] predecessors;
+
+    /**
+     * The inconsistent nodes, whose costs and lookahead costs differ.
+     */
+    private KeyQueue queue;
+
+    /**
+     * The number of nodes expanded by the last call of {@link #computePath()}.
+     */
+    private int expandedCount;
+
+    /**
+     * Constructor searching without estimates, like {@link Dijkstra}.
+     *
+     * @param graph The tracked graph
+     * @param startNode The start node
+     * @param targetNode The target node
+     */
+    public IncrementalAStar(Graph<T, C> graph, Node<T, C> startNode, Node<T, C> targetNode) {
+        this(graph, startNode, targetNode, (node, target) -> 0.0d);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param graph The tracked graph
+     * @param startNode The start node
+     * @param targetNode The target node
+     * @param estimator A consistent estimate of the remaining costs
+     */
+    public IncrementalAStar(Graph<T, C> graph, Node<T, C> startNode, Node<T, C> targetNode,
+            Estimator<T, C> estimator) {
+        this.graph = graph;
+        this.startNode = startNode;
+        this.targetNode = targetNode;
+        this.estimator = estimator;
+    }
+
+    /**
+     * Bring the path up to date with the current version of the graph.
+     *
+     * @return The cheapest path from the start to the target node
+     * @throws IllegalArgumentException If the search reaches an edge whose
+     * weight is not strictly positive
+     */
+    public synchronized Path<T, C> computePath() {
+        try {
+            return repair();
+        } catch (IllegalArgumentException ex) {
+            snapshot = null;
+            throw ex;
+        }
+    }
+
+    /**
+     * Bring the search state up to date and search.
+     *
+     * @return The cheapest path from the start to the target node
+     */
+    private Path<T, C> repair() {
+        expandedCount = 0;
+        final CompactGraph<T, C> current = graph.compile();
+        if (snapshot == null) {
+            initialize(current);
+        } else if (current != snapshot) {
+            final long[] edges = current.size() == snapshot.size()
+                    ? graph.getWeightChanges(snapshot.getVersion(), current.getVersion()) : null;
+            if (edges == null) {
+                initialize(current);
+            } else {
+                snapshot = current;
+                for (long edge : edges) {
+                    final int target = (int) edge;
+                    if (target >= 0 && target < costs.length) {
+                        update(target);
+                    }
+                }
+            }
+        }
+
+        final int target = targetNode.getId();
+        if (startNode.getId() < 0 || target < 0) {
+            return new Path<>(snapshot, new int[0], Double.POSITIVE_INFINITY);
+        }
+        search(target);
+        return extractPath(target);
+    }
+
+    /**
+     *
+     * @return The number of nodes expanded by the last call of
+     * {@link #computePath()}
+     */
+    public synchronized int getExpandedCount() {
+        return expandedCount;
+    }
+
+    /**
+     * Start over on the given snapshot.
+     *
+     * @param current The current snapshot of the graph
+     */
+    private void initialize(CompactGraph<T, C> current) {
+        snapshot = current;
+        costs = new double[current.size()];
+        lookahead = new double[current.size()];
+        predecessors = new int[current.size()];
+        Arrays.fill(costs, Double.POSITIVE_INFINITY);
+        Arrays.fill(lookahead, Double.POSITIVE_INFINITY);
+        Arrays.fill(predecessors, -1);
+        queue = new KeyQueue(current.size());
+
+        final int start = startNode.getId();
+        if (start >= 0) {
+            lookahead[start] = 0.0d;
+            queue.add(start, estimate(start), 0.0d);
+        }
+    }
+
+    /**
+     * Expand inconsistent nodes until the target is consistent and no queued
+     * node could lead to a cheaper path.
+     *
+     * @param target The id of the target node
+     */
+    private void search(int target) {
+        while (!queue.isEmpty()) {
+            final double targetMin = Math.min(costs[target], lookahead[target]);
+            final double targetKey = targetMin + estimate(target);
+            final int node = queue.peek();
+            final boolean before = queue.getPrimaryKey(node) < targetKey
+                    || (queue.getPrimaryKey(node) == targetKey && queue.getSecondaryKey(node) < targetMin);
+            if (!before && costs[target] == lookahead[target]) {
+                break;
+            }
+            queue.poll();
+            expandedCount++;
+
+            if (costs[node] > lookahead[node]) {
+                costs[node] = lookahead[node];
+            } else {
+                costs[node] = Double.POSITIVE_INFINITY;
+                update(node);
+            }
+            for (int e = snapshot.firstEdge(node), end = snapshot.endEdge(node); e < end; e++) {
+                update(snapshot.getTarget(e));
+            }
+        }
+    }
+
+    /**
+     * Recompute the lookahead costs of a node and queue it if it is
+     * inconsistent.
+     *
+     * @param node The node id
+     */
+    private void update(int node) {
+        if (node != startNode.getId()) {
+            final IndexedGraph<T, C> reverse = snapshot.reverse();
+            double min = Double.POSITIVE_INFINITY;
+            int best = -1;
+            for (int e = reverse.firstEdge(node), end = reverse.endEdge(node); e < end; e++) {
+                final double weight = reverse.getWeight(e);
+                if (!(weight > 0.0d)) {
+                    throw new IllegalArgumentException(
+                            String.format("edge from %d to %d has weight %f", reverse.getTarget(e), node, weight)
+                    );
+                }
+                final double altCosts = costs[reverse.getTarget(e)] + weight;
+                if (altCosts < min) {
+                    min = altCosts;
+                    best = reverse.getTarget(e);
+                }
+            }
+            lookahead[node] = min;
+            predecessors[node] = best;
+        }
+        queue.remove(node);
+        if (costs[node] != lookahead[node]) {
+            final double min = Math.min(costs[node], lookahead[node]);
+            queue.add(node, min + estimate(node), min);
+        }
+    }
+
+    /**
+     *
+     * @param node The node id
+     * @return The estimated costs from the node to the target
+     */
+    private double estimate(int node) {
+        return estimator.estimate(snapshot.getNode(node), targetNode);
+    }
+
+    /**
+     * Follow the predecessors of the lookahead costs back from the target
+     * node.
+     *
+     * @param target The id of the target node
+     * @return The path
+     */
+    private Path<T, C> extractPath(int target) {
+        if (costs[target] == Double.POSITIVE_INFINITY) {
+            return new Path<>(snapshot, new int[]{target}, Double.POSITIVE_INFINITY);
+        }
+        int length = 1;
+        for (int node = target; node != startNode.getId(); node = predecessors[node]) {
+            if (node < 0 || length > costs.length) {
+                throw new IllegalStateException(String.format("no path to %d", target));
+            }
+            length++;
+        }
+        final int[] nodes = new int[length];
+        for (int i = length - 1, node = target; i >= 0; i--) {
+            nodes[i] = node;
+            if (i > 0) {
+                node = predecessors[node];
+            }
+        }
+        return new Path<>(snapshot, nodes, costs[target]);
+    }
+
+    /**
+     * Indexed binary heap over node ids ordered by a primary and a secondary
+     * key, the latter breaking ties.
+     */
+    private static final class KeyQueue {
+
+        private final int[] heap;
+
+        private final int[] positions;
+
+        private final double[] primaryKeys, secondaryKeys;
+
+        private int size;
+
+        KeyQueue(int capacity) {
+            heap = new int[capacity];
+            positions = new int[capacity];
+            primaryKeys = new double[capacity];
+            secondaryKeys = new double[capacity];
+            Arrays.fill(positions, -1);
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int peek() {
+            return heap[0];
+        }
+
+        double getPrimaryKey(int id) {
+            return primaryKeys[id];
+        }
+
+        double getSecondaryKey(int id) {
+            return secondaryKeys[id];
+        }
+
+        void add(int id, double primaryKey, double secondaryKey) {
+            primaryKeys[id] = primaryKey;
+            secondaryKeys[id] = secondaryKey;
+            heap[size] = id;
+            positions[id] = size;
+            siftUp(size++);
+        }
+
+        int poll() {
+            final int id = heap[0];
+            remove(id);
+            return id;
+        }
+
+        void remove(int id) {
+            final int pos = positions[id];
+            if (pos < 0) {
+                return;
+            }
+            positions[id] = -1;
+            if (--size > pos) {
+                final int moved = heap[size];
+                heap[pos] = moved;
+                positions[moved] = pos;
+                siftUp(pos);
+                if (positions[moved] == pos) {
+                    siftDown(pos);
+                }
+            }
+        }
+
+        private boolean less(int a, int b) {
+            return primaryKeys[a] < primaryKeys[b]
+                    || (primaryKeys[a] == primaryKeys[b] && secondaryKeys[a] < secondaryKeys[b]);
+        }
+
+        private void siftUp(int pos) {
+            final int id = heap[pos];
+            while (pos > 0) {
+                final int parent = (pos - 1) >>> 1;
+                if (!less(id, heap[parent])) {
+                    break;
+                }
+                heap[pos] = heap[parent];
+                positions[heap[pos]] = pos;
+                pos = parent;
+            }
+            heap[pos] = id;
+            positions[id] = pos;
+        }
+
+        private void siftDown(int pos) {
+            final int id = heap[pos];
+            final int half = size >>> 1;
+            while (pos < half) {
+                int child = 2 * pos + 1;
+                if (child + 1 < size && less(heap[child + 1], heap[child])) {
+                    child++;
+                }
+                if (!less(heap[child], id)) {
+                    break;
+                }
+                heap[pos] = heap[child];
+                positions[heap[pos]] = pos;
+                pos = child;
+            }
+            heap[pos] = id;
+            positions[id] = pos;
+        }
+    }
+}
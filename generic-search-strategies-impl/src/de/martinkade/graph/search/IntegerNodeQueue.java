@@ -0,0 +1,321 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Base class of the monotone queues, which order nodes by integer keys kept in
+ * buckets of doubly linked lists. A key is turned into an integer by
+ * multiplying it with a scale factor and rounding the result down, so keys that
+ * are multiples of 1 / scale keep their exact order, and other keys are
+ * ordered up to a precision of 1 / scale.
+ * <p/>
+ * Monotone means no key may be smaller than the key of the last polled node,
+ * which holds for {@link Dijkstra} with non-negative weights and for
+ * {@link AStar} with a consistent estimator.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+abstract class IntegerNodeQueue implements NodeQueue {
+
+    /**
+     * The factor turning keys into integers.
+     */
+    protected final double scale;
+
+    /**
+     * The first node id of every bucket, -1 for an empty bucket.
+     */
+    protected int[] heads;
+
+    /**
+     * The next and previous node id within the bucket of each node id, -1 at
+     * the ends of the list.
+     */
+    protected int[] next, previous;
+
+    /**
+     * The bucket of each node id, -1 if the node is not queued.
+     */
+    protected int[] buckets;
+
+    /**
+     * The integer key of each node id.
+     */
+    protected long[] integerKeys;
+
+    /**
+     * The priority key of each node id as passed in.
+     */
+    protected double[] keys;
+
+    /**
+     * The integer key of the last polled node, no smaller key can be queued.
+     */
+    protected long last;
+
+    /**
+     * The number of queued nodes.
+     */
+    protected int size;
+
+    /**
+     * The number of insertions, removals and key decreases since the last
+     * {@link #clear(int)}.
+     */
+    private long pushes, polls, decreaseKeys;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The number of nodes, ids range from 0 to capacity - 1
+     * @param scale The factor turning keys into integers, 1 for integer keys
+     * @param bucketCount The initial number of buckets
+     */
+    IntegerNodeQueue(int capacity, double scale, int bucketCount) {
+        if (!(scale > 0.0d) || Double.isInfinite(scale)) {
+            throw new IllegalArgumentException(
+                    String.format("invalid scale %f", scale)
+            );
+        }
+        this.scale = scale;
+        heads = new int[bucketCount];
+        Arrays.fill(heads, -1);
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        next = new int[capacity];
+        previous = new int[capacity];
+        buckets = new int[capacity];
+        integerKeys = new long[capacity];
+        keys = new double[capacity];
+        Arrays.fill(buckets, -1);
+    }
+
+    /**
+     *
+     * @return The factor turning keys into integers
+     */
+    public double getScale() {
+        return scale;
+    }
+
+    /**
+     * Remove all queued nodes in time proportional to the buckets in use, an
+     * empty queue is cleared in O(1) no matter how many buckets it has.
+     *
+     * @param capacity The number of nodes, ids range from 0 to capacity - 1
+     */
+    @Override
+    public void clear(int capacity) {
+        if (size > 0) {
+            clearBuckets();
+        }
+        size = 0;
+        last = 0L;
+        pushes = 0L;
+        polls = 0L;
+        decreaseKeys = 0L;
+        if (capacity > buckets.length) {
+            allocate(capacity);
+        }
+    }
+
+    @Override
+    public long getPushCount() {
+        return pushes;
+    }
+
+    @Override
+    public long getPollCount() {
+        return polls;
+    }
+
+    @Override
+    public long getDecreaseKeyCount() {
+        return decreaseKeys;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(int id) {
+        return buckets[id] >= 0;
+    }
+
+    @Override
+    public double getKey(int id) {
+        return keys[id];
+    }
+
+    @Override
+    public double peekKey() {
+        if (size == 0) {
+            throw new NoSuchElementException("queue is empty");
+        }
+        return keys[heads[first()]];
+    }
+
+    @Override
+    public void add(int id, double key) {
+        if (buckets[id] >= 0) {
+            throw new IllegalArgumentException(
+                    String.format("node %d is already queued", id)
+            );
+        }
+        keys[id] = key;
+        integerKeys[id] = toInteger(key);
+        link(id, bucketOf(integerKeys[id]));
+        size++;
+        pushes++;
+    }
+
+    @Override
+    public void decreaseKey(int id, double key) {
+        final long integerKey = toInteger(key);
+        keys[id] = key;
+        if (integerKey != integerKeys[id]) {
+            integerKeys[id] = integerKey;
+            final int bucket = bucketOf(integerKey);
+            if (bucket != buckets[id]) {
+                unlink(id);
+                link(id, bucket);
+            }
+        }
+        decreaseKeys++;
+    }
+
+    @Override
+    public int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("queue is empty");
+        }
+        final int id = heads[first()];
+        unlink(id);
+        buckets[id] = -1;
+        size--;
+        polls++;
+        return id;
+    }
+
+    /**
+     * Empty all buckets that may hold nodes, see {@link #clearBucket(int)}.
+     */
+    protected abstract void clearBuckets();
+
+    /**
+     * Remove all nodes from a bucket.
+     *
+     * @param bucket The bucket
+     */
+    protected final void clearBucket(int bucket) {
+        for (int id = heads[bucket]; id >= 0; id = next[id]) {
+            buckets[id] = -1;
+        }
+        heads[bucket] = -1;
+    }
+
+    /**
+     * Find the bucket holding the smallest integer key, which is not empty,
+     * and advance {@link #last} to that key.
+     *
+     * @return The bucket, all nodes of which have the smallest integer key
+     */
+    protected abstract int first();
+
+    /**
+     *
+     * @param integerKey An integer key not smaller than {@link #last}
+     * @return The bucket of the key
+     */
+    protected abstract int bucketOf(long integerKey);
+
+    /**
+     * Prepend a node to the list of a bucket.
+     *
+     * @param id The node id
+     * @param bucket The bucket
+     */
+    protected final void link(int id, int bucket) {
+        final int head = heads[bucket];
+        next[id] = head;
+        previous[id] = -1;
+        if (head >= 0) {
+            previous[head] = id;
+        }
+        heads[bucket] = id;
+        buckets[id] = bucket;
+    }
+
+    /**
+     * Remove a node from the list of its bucket, leaving its bucket set.
+     *
+     * @param id The node id
+     */
+    protected final void unlink(int id) {
+        final int n = next[id];
+        final int p = previous[id];
+        if (p >= 0) {
+            next[p] = n;
+        } else {
+            heads[buckets[id]] = n;
+        }
+        if (n >= 0) {
+            previous[n] = p;
+        }
+    }
+
+    /**
+     * Turn a key into an integer. A key one unit below the last polled key,
+     * as left by the rounding of consistent {@link AStar} estimates, is
+     * raised to it.
+     *
+     * @param key The priority key
+     * @return The integer key
+     */
+    private long toInteger(double key) {
+        final long integerKey = (long) Math.floor(key * scale);
+        if (integerKey == last - 1L) {
+            return last;
+        }
+        if (integerKey < last) {
+            throw new IllegalArgumentException(
+                    String.format("key %f is smaller than the last polled key", key)
+            );
+        }
+        return integerKey;
+    }
+}
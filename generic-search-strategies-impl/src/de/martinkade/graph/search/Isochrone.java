@@ -0,0 +1,173 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.Criteria;
+import de.martinkade.graph.Graph;
+import de.martinkade.graph.IndexedGraph;
+import de.martinkade.graph.Node;
+
+/**
+ * Bounded variant of {@link Dijkstra} finding every node that can be reached
+ * from the start node within a cost budget, for example a delivery zone. The
+ * search stops as soon as the smallest queued costs exceed the budget. As
+ * only reached nodes are queued and the pooled {@link SearchContext} is reset
+ * in proportion to the previous search, a query costs in proportion to the
+ * number of nodes within the budget, independent of the size of the graph.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <T> Content type of the node
+ * @param <C> The {@link Criteria} implementation that enables to compare
+ * {@link Node} instances to each other
+ */
+public class Isochrone<T, C extends Criteria> {
+
+    /**
+     * The node for the algorithm to start at.
+     */
+    protected final Node<T, C> startNode;
+
+    /**
+     * The maximum costs of a reachable node.
+     */
+    protected final double budget;
+
+    /**
+     * Constructor.
+     *
+     * @param startNode The node for the algorithm to start at
+     * @param budget The maximum costs of a reachable node
+     */
+    public Isochrone(Node<T, C> startNode, double budget) {
+        this.startNode = startNode;
+        this.budget = budget;
+    }
+
+    /**
+     * Search the {@link Graph#compile()} snapshot of the graph.
+     *
+     * @param graph The graph to search
+     * @return The nodes within the budget
+     */
+    public Result<T, C> execute(Graph<T, C> graph) {
+        return execute(graph.compile());
+    }
+
+    /**
+     *
+     * @param graph The graph to search
+     * @return The nodes within the budget
+     */
+    public Result<T, C> execute(IndexedGraph<T, C> graph) {
+        final SearchContext context = SearchContext.forCurrentThread();
+        context.reset(graph.size());
+
+        final int start = startNode.getId();
+        if (start >= 0 && budget >= 0.0d) {
+            context.update(start, 0.0d, -1);
+            final NodePriorityQueue priorityQueue = context.getQueue();
+            priorityQueue.add(start, 0.0d);
+
+            while (!priorityQueue.isEmpty() && priorityQueue.peekKey() <= budget) {
+                final int node = priorityQueue.poll();
+                context.setVisited(node);
+
+                final double costs = context.getCosts(node);
+                for (int e = graph.firstEdge(node), end = graph.endEdge(node); e < end; e++) {
+                    final int successor = graph.getTarget(e);
+                    final double altCosts = costs + graph.getWeight(e);
+                    if (altCosts <= budget && altCosts < context.getCosts(successor)) {
+                        context.update(successor, altCosts, node);
+                        priorityQueue.addOrDecreaseKey(successor, altCosts);
+                    }
+                }
+            }
+        }
+
+        final int size = context.getVisitedCount();
+        final int[] nodes = new int[size];
+        final double[] costs = new double[size];
+        for (int i = 0; i < size; i++) {
+            nodes[i] = context.getVisitedNode(i);
+            costs[i] = context.getCosts(nodes[i]);
+        }
+        return new Result<>(graph, nodes, costs);
+    }
+
+    /**
+     * The nodes within the budget in the order of increasing costs.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link Criteria} implementation
+     */
+    public static final class Result<T, C extends Criteria> {
+
+        private final IndexedGraph<T, C> graph;
+        private final int[] nodes;
+        private final double[] costs;
+
+        Result(IndexedGraph<T, C> graph, int[] nodes, double[] costs) {
+            this.graph = graph;
+            this.nodes = nodes;
+            this.costs = costs;
+        }
+
+        /**
+         *
+         * @return The number of nodes within the budget
+         */
+        public int size() {
+            return nodes.length;
+        }
+
+        /**
+         *
+         * @param index The index, from 0 to {@link #size()} - 1
+         * @return The node id
+         */
+        public int getNodeId(int index) {
+            return nodes[index];
+        }
+
+        /**
+         *
+         * @param index The index, from 0 to {@link #size()} - 1
+         * @return The node
+         */
+        public Node<T, C> getNode(int index) {
+            return graph.getNode(nodes[index]);
+        }
+
+        /**
+         *
+         * @param index The index, from 0 to {@link #size()} - 1
+         * @return The costs to get to the node
+         */
+        public double getCosts(int index) {
+            return costs[index];
+        }
+    }
+}
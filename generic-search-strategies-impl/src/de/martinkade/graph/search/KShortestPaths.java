@@ -0,0 +1,406 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.Criteria;
+import de.martinkade.graph.Graph;
+import de.martinkade.graph.IndexedGraph;
+import de.martinkade.graph.Node;
+import de.martinkade.graph.Path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The k cheapest loopless paths between two nodes after Yen. Every path
+ * found is the origin of new candidates: for each of its nodes, the spur
+ * node, a spur search looks for the cheapest path to the target that keeps
+ * the root path up to the spur node, avoids the root nodes and leaves the
+ * spur node by none of the edges taken by the paths found so far with the
+ * same root. The cheapest candidate becomes the next path.
+ * <p/>
+ * A reverse {@link ShortestPathTree} from the target node yields the first
+ * path and the exact remaining costs of every node in the unmodified graph.
+ * These are lower bounds once edges and nodes are blocked, so the spur
+ * searches run as {@link AStar} with a consistent estimator, and spur nodes
+ * whose bound cannot beat the candidates already known are skipped. The spur
+ * searches of one path run in parallel on the pooled {@link SearchContext}s
+ * of the pool threads. The tree of the last target is kept for the next
+ * query.
+ * <p/>
+ * Paths are sequences of nodes, parallel edges between two nodes count as
+ * one edge of the smallest weight.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <T> Content type of the node
+ * @param <C> The {@link Criteria} implementation that enables to compare
+ * {@link Node} instances to each other
+ */
+public class KShortestPaths<T, C extends Criteria> {
+
+    /**
+     * The slot of the pooled {@link SearchContext} used by spur searches.
+     */
+    private static final int SPUR_CONTEXT = 3;
+
+    /**
+     * The graph to search.
+     */
+    private final IndexedGraph<T, C> graph;
+
+    /**
+     * The pool running the spur searches.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The id of the target node of {@link #remainingCosts}, -1 if there is
+     * none yet.
+     */
+    private int treeTarget = -1;
+
+    /**
+     * The reverse tree of {@link #treeTarget}.
+     */
+    private ShortestPathTree<T, C> tree;
+
+    /**
+     * The costs from every node to {@link #treeTarget}.
+     */
+    private double[] remainingCosts;
+
+    /**
+     * Constructor, the paths are searched in the {@link Graph#compile()}
+     * snapshot of the current version of the graph.
+     *
+     * @param graph The graph to search
+     */
+    public KShortestPaths(Graph<T, C> graph) {
+        this(graph.compile(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param graph The graph to search
+     * @param pool The pool running the spur searches
+     */
+    public KShortestPaths(IndexedGraph<T, C> graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+    }
+
+    /**
+     * Find the k cheapest loopless paths.
+     *
+     * @param startNode The start node
+     * @param targetNode The target node
+     * @param k The maximum number of paths
+     * @return Up to k paths ordered by their costs, fewer if there are no
+     * more paths, empty if the target cannot be reached
+     */
+    public List<Path<T, C>> execute(Node<T, C> startNode, Node<T, C> targetNode, int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException(
+                    String.format("invalid number of paths %d", k)
+            );
+        }
+        final int start = startNode.getId();
+        final int target = targetNode.getId();
+        if (start < 0 || target < 0) {
+            return Collections.emptyList();
+        }
+
+        final ShortestPathTree<T, C> reverseTree;
+        final double[] h;
+        synchronized (this) {
+            if (treeTarget != target) {
+                tree = new ShortestPathTree<>(graph.reverse(), targetNode);
+                remainingCosts = tree.getAllCosts();
+                treeTarget = target;
+            }
+            reverseTree = tree;
+            h = remainingCosts;
+        }
+        if (h[start] == Double.POSITIVE_INFINITY) {
+            return Collections.emptyList();
+        }
+
+        final int[] first = reverseTree.getPath(startNode).getNodeIds();
+        for (int i = 0, j = first.length - 1; i < j; i++, j--) {
+            final int id = first[i];
+            first[i] = first[j];
+            first[j] = id;
+        }
+
+        final List<Candidate> paths = new ArrayList<>();
+        paths.add(new Candidate(first, h[start]));
+        final PriorityQueue<Candidate> candidates = new PriorityQueue<>();
+        final Set<Candidate> known = new HashSet<>();
+        known.add(paths.get(0));
+
+        while (paths.size() < k) {
+            final int[] previous = paths.get(paths.size() - 1).nodes;
+            final double bound = bound(candidates, k - paths.size());
+
+            final List<SpurTask> tasks = new ArrayList<>();
+            double rootCosts = 0.0d;
+            for (int i = 0; i < previous.length - 1; i++) {
+                if (i > 0) {
+                    rootCosts += weight(previous[i - 1], previous[i]);
+                }
+                if (rootCosts + h[previous[i]] < bound) {
+                    tasks.add(new SpurTask(previous, i, rootCosts, blocked(paths, previous, i), bound, h, target));
+                }
+            }
+            if (tasks.size() == 1) {
+                tasks.get(0).invoke();
+            } else if (tasks.size() > 1) {
+                pool.invoke(ForkJoinTask.adapt(() -> {
+                    ForkJoinTask.invokeAll(tasks);
+                }));
+            }
+
+            for (SpurTask task : tasks) {
+                final Candidate candidate = task.join();
+                if (candidate != null && known.add(candidate)) {
+                    candidates.add(candidate);
+                }
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+            paths.add(candidates.poll());
+        }
+
+        final List<Path<T, C>> result = new ArrayList<>(paths.size());
+        for (Candidate path : paths) {
+            result.add(new Path<>(graph, path.nodes, path.costs));
+        }
+        return result;
+    }
+
+    /**
+     *
+     * @param candidates The candidates found so far
+     * @param needed The number of paths still missing
+     * @return The costs no useful candidate can reach, the costs of the
+     * needed-th cheapest candidate or {@link Double#POSITIVE_INFINITY} if
+     * there are fewer candidates
+     */
+    private static double bound(PriorityQueue<Candidate> candidates, int needed) {
+        if (candidates.size() < needed) {
+            return Double.POSITIVE_INFINITY;
+        }
+        final double[] costs = new double[candidates.size()];
+        int i = 0;
+        for (Candidate candidate : candidates) {
+            costs[i++] = candidate.costs;
+        }
+        Arrays.sort(costs);
+        return costs[needed - 1];
+    }
+
+    /**
+     *
+     * @param paths The paths found so far
+     * @param previous The last path found
+     * @param spur The index of the spur node within the last path
+     * @return The ids of the nodes the spur search must not go to from the
+     * spur node
+     */
+    private static int[] blocked(List<Candidate> paths, int[] previous, int spur) {
+        final int[] blocked = new int[paths.size()];
+        int count = 0;
+        for (Candidate path : paths) {
+            final int[] nodes = path.nodes;
+            if (nodes.length <= spur + 1) {
+                continue;
+            }
+            int i = 0;
+            while (i <= spur && nodes[i] == previous[i]) {
+                i++;
+            }
+            if (i > spur) {
+                blocked[count++] = nodes[spur + 1];
+            }
+        }
+        return Arrays.copyOf(blocked, count);
+    }
+
+    /**
+     *
+     * @param source The id of the source node
+     * @param target The id of the target node
+     * @return The smallest weight of the edges from source to target
+     */
+    private double weight(int source, int target) {
+        double weight = Double.POSITIVE_INFINITY;
+        for (int e = graph.firstEdge(source), end = graph.endEdge(source); e < end; e++) {
+            if (graph.getTarget(e) == target) {
+                weight = Math.min(weight, graph.getWeight(e));
+            }
+        }
+        return weight;
+    }
+
+    /**
+     * A path as node ids together with its costs, ordered by the costs and
+     * equal to paths with the same nodes.
+     */
+    private static final class Candidate implements Comparable<Candidate> {
+
+        private final int[] nodes;
+
+        private final double costs;
+
+        Candidate(int[] nodes, double costs) {
+            this.nodes = nodes;
+            this.costs = costs;
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            final int order = Double.compare(costs, other.costs);
+            return order != 0 ? order : Integer.compare(nodes.length, other.nodes.length);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Candidate && Arrays.equals(nodes, ((Candidate) obj).nodes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(nodes);
+        }
+    }
+
+    /**
+     * The spur search of a single spur node.
+     */
+    private final class SpurTask extends RecursiveTask<Candidate> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] previous;
+
+        private final int spurIndex;
+
+        private final double rootCosts;
+
+        private final int[] blocked;
+
+        private final double bound;
+
+        private final double[] h;
+
+        private final int target;
+
+        SpurTask(int[] previous, int spurIndex, double rootCosts, int[] blocked,
+                double bound, double[] h, int target) {
+            this.previous = previous;
+            this.spurIndex = spurIndex;
+            this.rootCosts = rootCosts;
+            this.blocked = blocked;
+            this.bound = bound;
+            this.h = h;
+            this.target = target;
+        }
+
+        /**
+         *
+         * @return The candidate through the spur node, null if there is none
+         * cheaper than the bound
+         */
+        @Override
+        protected Candidate compute() {
+            final SearchContext context = SearchContext.forCurrentThread(SPUR_CONTEXT);
+            context.reset(graph.size());
+            for (int i = 0; i < spurIndex; i++) {
+                context.setVisited(previous[i]);
+            }
+            final int spur = previous[spurIndex];
+            final NodePriorityQueue queue = context.getQueue();
+            context.update(spur, 0.0d, -1);
+            queue.add(spur, h[spur]);
+
+            boolean found = false;
+            while (!queue.isEmpty() && rootCosts + queue.peekKey() < bound) {
+                final int node = queue.poll();
+                if (node == target) {
+                    found = true;
+                    break;
+                }
+                context.setVisited(node);
+
+                final double costs = context.getCosts(node);
+                for (int e = graph.firstEdge(node), end = graph.endEdge(node); e < end; e++) {
+                    final int successor = graph.getTarget(e);
+                    if (context.isVisited(successor) || h[successor] == Double.POSITIVE_INFINITY
+                            || node == spur && isBlocked(successor)) {
+                        continue;
+                    }
+                    final double altCosts = costs + graph.getWeight(e);
+                    if (altCosts < context.getCosts(successor)) {
+                        context.update(successor, altCosts, node);
+                        queue.addOrDecreaseKey(successor, altCosts + h[successor]);
+                    }
+                }
+            }
+            if (!found) {
+                return null;
+            }
+
+            int length = spurIndex + 1;
+            for (int id = target; id != spur; id = context.getPredecessor(id)) {
+                length++;
+            }
+            final int[] nodes = Arrays.copyOf(previous, length);
+            for (int i = length - 1, id = target; id != spur; i--, id = context.getPredecessor(id)) {
+                nodes[i] = id;
+            }
+            return new Candidate(nodes, rootCosts + context.getCosts(target));
+        }
+
+        private boolean isBlocked(int successor) {
+            for (int id : blocked) {
+                if (id == successor) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
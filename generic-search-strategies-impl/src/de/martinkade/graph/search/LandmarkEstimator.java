@@ -0,0 +1,265 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.Criteria;
+import de.martinkade.graph.Estimator;
+import de.martinkade.graph.IndexedGraph;
+import de.martinkade.graph.Node;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.stream.IntStream;
+
+/**
+ * {@link Estimator} based on landmarks and the triangle inequality (ALT). For
+ * every landmark <code>L</code> the costs <code>d(L, v)</code> from and
+ * <code>d(v, L)</code> to every node <code>v</code> are computed once, and
+ * <pre>
+ * d(v, t) &gt;= max(d(L, t) - d(L, v), d(v, L) - d(t, L))
+ * </pre>
+ * gives a lower bound that follows the actual road network much closer than
+ * geometric estimates do.
+ * <p/>
+ * The costs are stored as floats in node-major order, so the bounds of a node
+ * are read from one contiguous block. Rounding errors are subtracted from each
+ * bound to keep it admissible. The tables can be saved and loaded again, as
+ * long as the graph has not changed in between.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <T> Content type of the node
+ * @param <C> The {@link Criteria} implementation that enables to compare
+ * {@link Node} instances to each other
+ */
+public final class LandmarkEstimator<T, C extends Criteria> implements Estimator<T, C> {
+
+    /**
+     * The magic number at the beginning of every landmark file.
+     */
+    private static final int MAGIC = 0x47534c4d;
+
+    /**
+     * The node ids of the landmarks.
+     */
+    private final int[] landmarks;
+
+    /**
+     * The costs from every landmark to every node, at
+     * <code>v * k + i</code> for node <code>v</code> and landmark
+     * <code>i</code>.
+     */
+    private final float[] from;
+
+    /**
+     * The costs from every node to every landmark, laid out like
+     * {@link #from}.
+     */
+    private final float[] to;
+
+    /**
+     * Constructor.
+     *
+     * @param landmarks The node ids of the landmarks
+     * @param from The costs from every landmark to every node
+     * @param to The costs from every node to every landmark
+     */
+    private LandmarkEstimator(int[] landmarks, float[] from, float[] to) {
+        this.landmarks = landmarks;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Select landmarks and compute their cost tables. The landmarks are chosen
+     * one after the other as the node farthest away from all landmarks chosen
+     * so far, the backward costs of all landmarks are computed in parallel.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link Criteria} implementation
+     * @param graph The graph to preprocess
+     * @param k The number of landmarks
+     * @return The estimator
+     */
+    public static <T, C extends Criteria> LandmarkEstimator<T, C> compute(IndexedGraph<T, C> graph, int k) {
+        final int n = graph.size();
+        k = Math.min(k, n);
+        final int[] landmarks = new int[k];
+        final double[][] forward = new double[k][];
+
+        // farthest selection, starting with the node farthest from node 0,
+        // nodes not reached by any landmark yet count as farthest
+        final double[] minCosts = n > 0 ? Dijkstra.distances(graph, 0) : new double[0];
+        for (int i = 0; i < k; i++) {
+            int farthest = 0;
+            for (int v = 1; v < n; v++) {
+                if (minCosts[v] > minCosts[farthest]) {
+                    farthest = v;
+                }
+            }
+            landmarks[i] = farthest;
+            forward[i] = Dijkstra.distances(graph, farthest);
+            for (int v = 0; v < n; v++) {
+                if (i == 0 || minCosts[v] >= 0.0d) {
+                    minCosts[v] = i == 0 ? forward[i][v] : Math.min(minCosts[v], forward[i][v]);
+                }
+            }
+            minCosts[farthest] = -1.0d;
+        }
+
+        final IndexedGraph<T, C> reverse = graph.reverse();
+        final double[][] backward = new double[k][];
+        IntStream.range(0, k).parallel().forEach((i) -> {
+            backward[i] = Dijkstra.distances(reverse, landmarks[i]);
+        });
+
+        final float[] from = new float[n * k];
+        final float[] to = new float[n * k];
+        for (int i = 0; i < k; i++) {
+            for (int v = 0; v < n; v++) {
+                from[v * k + i] = (float) forward[i][v];
+                to[v * k + i] = (float) backward[i][v];
+            }
+        }
+        return new LandmarkEstimator<>(landmarks, from, to);
+    }
+
+    /**
+     * Load the cost tables saved by {@link #save(java.io.File)}.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link Criteria} implementation
+     * @param file The landmark file
+     * @param graph The graph the tables have been computed for
+     * @return The estimator
+     * @throws IOException If the file cannot be read or does not match the
+     * graph
+     */
+    public static <T, C extends Criteria> LandmarkEstimator<T, C> load(File file, IndexedGraph<T, C> graph) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("not a landmark file");
+            }
+            final int n = in.readInt();
+            if (n != graph.size()) {
+                throw new IOException(String.format("landmarks computed for %d nodes, graph has %d", n, graph.size()));
+            }
+            final int k = in.readInt();
+            final int[] landmarks = new int[k];
+            for (int i = 0; i < k; i++) {
+                landmarks[i] = in.readInt();
+            }
+            final float[] from = new float[n * k];
+            final float[] to = new float[n * k];
+            for (int i = 0; i < from.length; i++) {
+                from[i] = in.readFloat();
+            }
+            for (int i = 0; i < to.length; i++) {
+                to[i] = in.readFloat();
+            }
+            return new LandmarkEstimator<>(landmarks, from, to);
+        }
+    }
+
+    /**
+     * Save the cost tables, see
+     * {@link #load(java.io.File, de.martinkade.graph.IndexedGraph)}.
+     *
+     * @param file The landmark file
+     * @throws IOException If the file cannot be written
+     */
+    public void save(File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(landmarks.length == 0 ? 0 : from.length / landmarks.length);
+            out.writeInt(landmarks.length);
+            for (int landmark : landmarks) {
+                out.writeInt(landmark);
+            }
+            for (float costs : from) {
+                out.writeFloat(costs);
+            }
+            for (float costs : to) {
+                out.writeFloat(costs);
+            }
+        }
+    }
+
+    /**
+     *
+     * @return The node ids of the landmarks
+     */
+    public int[] getLandmarks() {
+        return landmarks.clone();
+    }
+
+    @Override
+    public double estimate(Node<T, C> node, Node<T, C> targetNode) {
+        return estimate(node.getId(), targetNode.getId());
+    }
+
+    /**
+     *
+     * @param node The id of a node reached by the search
+     * @param target The id of the target node
+     * @return A lower bound of the costs of the cheapest path from the node to
+     * the target node
+     */
+    public double estimate(int node, int target) {
+        final int k = landmarks.length;
+        final int v = node * k;
+        final int t = target * k;
+        double bound = 0.0d;
+        for (int i = 0; i < k; i++) {
+            bound = Math.max(bound, difference(from[t + i], from[v + i]));
+            bound = Math.max(bound, difference(to[v + i], to[t + i]));
+        }
+        return bound;
+    }
+
+    /**
+     * Get a lower bound of the difference of two costs stored as floats. Each
+     * float is off by at most half an ulp, so one ulp of each is subtracted.
+     *
+     * @param minuend The costs to subtract from
+     * @param subtrahend The costs to subtract
+     * @return A lower bound of the difference
+     */
+    private static double difference(float minuend, float subtrahend) {
+        if (minuend == subtrahend || subtrahend == Float.POSITIVE_INFINITY) {
+            return 0.0d;
+        }
+        if (minuend == Float.POSITIVE_INFINITY) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return (double) minuend - subtrahend - Math.ulp(minuend) - Math.ulp(subtrahend);
+    }
+}
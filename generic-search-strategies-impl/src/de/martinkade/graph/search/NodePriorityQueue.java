@@ -23,20 +23,239 @@
  */
 package de.martinkade.graph.search;
 
-import de.martinkade.graph.Criteria;
 import de.martinkade.graph.Node;
 
-import java.util.PriorityQueue;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
 
 /**
+ * Indexed binary min-heap over {@link Node#getId()}s. Every node is stored
+ * together with its priority key and its current heap position, so that
+ * {@link #contains(int)} runs in O(1) and {@link #decreaseKey(int, double)}
+ * restores the heap order in O(log n).
+ * <p/>
+ * This is the default {@link QueueType#BINARY_HEAP}, it accepts any key
+ * order.
  *
  * @author martinkade
  * @version 2015-10-07
- * <p/>
- * @param <T> Content type of the node
- * @param <C> The {@link Criteria} implementation that enables to compare
- * {@link Node} instances to each other
  */
-public class NodePriorityQueue<T, C extends Criteria> extends PriorityQueue<Node<T, C>> {
+public class NodePriorityQueue implements NodeQueue {
+
+    /**
+     * The node ids in heap order, only the first {@link #size} entries are
+     * valid.
+     */
+    private int[] heap;
+
+    /**
+     * The heap position of each node id, -1 if the node is not queued.
+     */
+    private int[] positions;
+
+    /**
+     * The priority key of each node id.
+     */
+    private double[] keys;
+
+    /**
+     * The number of queued nodes.
+     */
+    private int size;
+
+    /**
+     * The number of insertions, removals and key decreases since the last
+     * {@link #clear(int)}.
+     */
+    private long pushes, polls, decreaseKeys;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The number of nodes, ids range from 0 to capacity - 1
+     */
+    public NodePriorityQueue(int capacity) {
+        heap = new int[capacity];
+        positions = new int[capacity];
+        keys = new double[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Remove all queued nodes and make sure node ids up to the given capacity
+     * can be queued.
+     *
+     * @param capacity The number of nodes, ids range from 0 to capacity - 1
+     */
+    public void clear(int capacity) {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+        }
+        size = 0;
+        pushes = 0L;
+        polls = 0L;
+        decreaseKeys = 0L;
+        if (capacity > positions.length) {
+            heap = new int[capacity];
+            positions = new int[capacity];
+            keys = new double[capacity];
+            Arrays.fill(positions, -1);
+        }
+    }
+
+    public long getPushCount() {
+        return pushes;
+    }
+
+    public long getPollCount() {
+        return polls;
+    }
+
+    public long getDecreaseKeyCount() {
+        return decreaseKeys;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     *
+     * @param id The node id
+     * @return True if the node is currently queued
+     */
+    public boolean contains(int id) {
+        return positions[id] >= 0;
+    }
+
+    /**
+     * Get the current key of a queued node.
+     *
+     * @param id The node id
+     * @return The priority key
+     */
+    public double getKey(int id) {
+        return keys[id];
+    }
+
+    /**
+     * Get the smallest key without removing the node.
+     *
+     * @return The smallest priority key
+     */
+    public double peekKey() {
+        if (size == 0) {
+            throw new NoSuchElementException("queue is empty");
+        }
+        return keys[heap[0]];
+    }
+
+    /**
+     * Insert a node that is not queued yet.
+     *
+     * @param id The node id
+     * @param key The priority key, smaller keys are polled first
+     */
+    public void add(int id, double key) {
+        if (positions[id] >= 0) {
+            throw new IllegalArgumentException(
+                    String.format("node %d is already queued", id)
+            );
+        }
+        keys[id] = key;
+        heap[size] = id;
+        positions[id] = size;
+        siftUp(size++);
+        pushes++;
+    }
+
+    /**
+     * Lower the key of a queued node.
+     *
+     * @param id The node id
+     * @param key The new priority key, not greater than the current one
+     */
+    public void decreaseKey(int id, double key) {
+        keys[id] = key;
+        siftUp(positions[id]);
+        decreaseKeys++;
+    }
+
+    /**
+     * Insert the node or lower its key if it is already queued.
+     *
+     * @param id The node id
+     * @param key The priority key
+     */
+    public void addOrDecreaseKey(int id, double key) {
+        if (positions[id] >= 0) {
+            decreaseKey(id, key);
+        } else {
+            add(id, key);
+        }
+    }
+
+    /**
+     * Remove the node with the smallest key.
+     *
+     * @return The node id
+     */
+    public int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("queue is empty");
+        }
+        final int id = heap[0];
+        positions[id] = -1;
+        polls++;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return id;
+    }
+
+    private void siftUp(int pos) {
+        final int id = heap[pos];
+        final double key = keys[id];
+        while (pos > 0) {
+            final int parent = (pos - 1) >>> 1;
+            final int parentId = heap[parent];
+            if (keys[parentId] <= key) {
+                break;
+            }
+            heap[pos] = parentId;
+            positions[parentId] = pos;
+            pos = parent;
+        }
+        heap[pos] = id;
+        positions[id] = pos;
+    }
 
+    private void siftDown(int pos) {
+        final int id = heap[pos];
+        final double key = keys[id];
+        final int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            int childId = heap[child];
+            final int right = child + 1;
+            if (right < size && keys[heap[right]] < keys[childId]) {
+                child = right;
+                childId = heap[child];
+            }
+            if (key <= keys[childId]) {
+                break;
+            }
+            heap[pos] = childId;
+            positions[childId] = pos;
+            pos = child;
+        }
+        heap[pos] = id;
+        positions[id] = pos;
+    }
 }
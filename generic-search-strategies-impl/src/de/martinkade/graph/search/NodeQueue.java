@@ -0,0 +1,114 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.Node;
+
+/**
+ * Addressable min-priority queue over {@link Node#getId()}s, as used by
+ * {@link Dijkstra} and {@link AStar}. Which implementation a search uses is
+ * selected by a {@link QueueType}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public interface NodeQueue {
+
+    /**
+     * Remove all queued nodes, reset the counters and make sure node ids up to
+     * the given capacity can be queued.
+     *
+     * @param capacity The number of nodes, ids range from 0 to capacity - 1
+     */
+    void clear(int capacity);
+
+    boolean isEmpty();
+
+    int size();
+
+    /**
+     *
+     * @param id The node id
+     * @return True if the node is currently queued
+     */
+    boolean contains(int id);
+
+    /**
+     * Get the current key of a queued node.
+     *
+     * @param id The node id
+     * @return The priority key
+     */
+    double getKey(int id);
+
+    /**
+     * Get the smallest key without removing the node.
+     *
+     * @return The smallest priority key
+     */
+    double peekKey();
+
+    /**
+     * Insert a node that is not queued yet.
+     *
+     * @param id The node id
+     * @param key The priority key, smaller keys are polled first
+     */
+    void add(int id, double key);
+
+    /**
+     * Lower the key of a queued node.
+     *
+     * @param id The node id
+     * @param key The new priority key, not greater than the current one
+     */
+    void decreaseKey(int id, double key);
+
+    /**
+     * Insert the node or lower its key if it is already queued.
+     *
+     * @param id The node id
+     * @param key The priority key
+     */
+    default void addOrDecreaseKey(int id, double key) {
+        if (contains(id)) {
+            decreaseKey(id, key);
+        } else {
+            add(id, key);
+        }
+    }
+
+    /**
+     * Remove the node with the smallest key.
+     *
+     * @return The node id
+     */
+    int poll();
+
+    long getPushCount();
+
+    long getPollCount();
+
+    long getDecreaseKeyCount();
+}
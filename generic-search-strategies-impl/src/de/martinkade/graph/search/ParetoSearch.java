@@ -0,0 +1,428 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.Graph;
+import de.martinkade.graph.IndexedGraph;
+import de.martinkade.graph.MultiCriteria;
+import de.martinkade.graph.Node;
+import de.martinkade.graph.Path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Multi-criteria label-setting search for all Pareto-optimal paths between
+ * two nodes, i.e. the paths no other path beats in every cost of
+ * {@link MultiCriteria}. Every node keeps a bag of the labels, cost vectors
+ * with their predecessor label, that reach it without being dominated. Labels
+ * are settled in lexicographic order of their costs, so a settled label is
+ * never dominated later, and a new label is dropped if a label of its node or
+ * of the target node dominates it. Labels dominated by a new label are
+ * removed from the bag and skipped once they come out of the queue.
+ * <p/>
+ * Two options trade exactness for speed: with an epsilon above 0 a label is
+ * already dropped if another label is within a factor 1 + epsilon of it in
+ * every cost, and the bag of a node holds at most a maximum number of labels,
+ * further labels being dropped. Without both the result is the complete
+ * Pareto set, with one path per distinct cost vector.
+ * <p/>
+ * A search keeps its state in local arrays, so the instance can be used by
+ * any number of threads.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <T> Content type of the node
+ * @param <C> The {@link MultiCriteria} implementation of the edges
+ */
+public class ParetoSearch<T, C extends MultiCriteria> {
+
+    /**
+     * The graph to search.
+     */
+    private final IndexedGraph<T, C> graph;
+
+    /**
+     * The largest number of labels per node.
+     */
+    private final int maxLabels;
+
+    /**
+     * The relative tolerance of the dominance checks.
+     */
+    private final double epsilon;
+
+    /**
+     * Constructor computing the exact Pareto set of the
+     * {@link Graph#compile()} snapshot of the current version of the graph.
+     *
+     * @param graph The graph to search
+     */
+    public ParetoSearch(Graph<T, C> graph) {
+        this(graph.compile(), Integer.MAX_VALUE, 0.0d);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param graph The graph to search
+     * @param maxLabels The largest number of labels per node,
+     * {@link Integer#MAX_VALUE} for no limit
+     * @param epsilon The relative tolerance of the dominance checks, 0 for
+     * exact dominance
+     */
+    public ParetoSearch(IndexedGraph<T, C> graph, int maxLabels, double epsilon) {
+        if (maxLabels < 1) {
+            throw new IllegalArgumentException(
+                    String.format("invalid number of labels %d", maxLabels)
+            );
+        }
+        if (!(epsilon >= 0.0d)) {
+            throw new IllegalArgumentException(
+                    String.format("invalid epsilon %f", epsilon)
+            );
+        }
+        this.graph = graph;
+        this.maxLabels = maxLabels;
+        this.epsilon = epsilon;
+    }
+
+    /**
+     * Find the Pareto-optimal paths.
+     *
+     * @param startNode The start node
+     * @param targetNode The target node
+     * @return The paths in lexicographic order of their costs, empty if the
+     * target cannot be reached
+     */
+    public List<Route<T, C>> execute(Node<T, C> startNode, Node<T, C> targetNode) {
+        final int start = startNode.getId();
+        final int target = targetNode.getId();
+        if (start < 0 || target < 0) {
+            return Collections.emptyList();
+        }
+        return new Search(start, target).run();
+    }
+
+    /**
+     * A Pareto-optimal path together with its cost vector.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link MultiCriteria} implementation of the edges
+     */
+    public static final class Route<T, C extends MultiCriteria> {
+
+        private final Path<T, C> path;
+
+        private final int[] edges;
+
+        private final double[] costs;
+
+        Route(Path<T, C> path, int[] edges, double[] costs) {
+            this.path = path;
+            this.edges = edges;
+            this.costs = costs;
+        }
+
+        /**
+         *
+         * @return The path, its scalar costs are the summed weights of its
+         * edges
+         */
+        public Path<T, C> getPath() {
+            return path;
+        }
+
+        /**
+         *
+         * @return The indices of the edges taken, which may differ from
+         * {@link Path#getEdgeIndex(int)} for parallel edges
+         */
+        public int[] getEdgeIndices() {
+            return edges.clone();
+        }
+
+        /**
+         *
+         * @param index The index of the cost
+         * @return The summed cost of all edges
+         */
+        public double getCosts(int index) {
+            return costs[index];
+        }
+
+        /**
+         *
+         * @return The summed costs of all edges
+         */
+        public double[] getCosts() {
+            return costs.clone();
+        }
+
+        @Override
+        public String toString() {
+            return path + " " + Arrays.toString(costs);
+        }
+    }
+
+    /**
+     * The state of a single search. Labels are stored column-wise: the node,
+     * predecessor label and edge of label i, and its costs at
+     * <code>i * dimension</code>.
+     */
+    private final class Search {
+
+        private final int start, target;
+
+        private final int dimension;
+
+        private int[] labelNodes = new int[64];
+
+        private int[] labelPredecessors = new int[64];
+
+        private int[] labelEdges = new int[64];
+
+        private double[] labelCosts;
+
+        private boolean[] removed = new boolean[64];
+
+        private int labelCount;
+
+        /**
+         * The active labels of every node, null for nodes not reached yet.
+         */
+        private final int[][] bags;
+
+        private final int[] bagSizes;
+
+        /**
+         * Binary heap of label indices in lexicographic order of their costs.
+         */
+        private int[] heap = new int[64];
+
+        private int heapSize;
+
+        /**
+         * The costs of the label being created.
+         */
+        private final double[] scratch;
+
+        Search(int start, int target) {
+            this.start = start;
+            this.target = target;
+            dimension = graph.edgeCount() > 0 ? graph.getCriteria(0).dimension() : 1;
+            labelCosts = new double[64 * dimension];
+            bags = new int[graph.size()][];
+            bagSizes = new int[graph.size()];
+            scratch = new double[dimension];
+        }
+
+        List<Route<T, C>> run() {
+            Arrays.fill(scratch, 0.0d);
+            push(addLabel(start, -1, -1));
+
+            final List<Route<T, C>> routes = new ArrayList<>();
+            while (heapSize > 0) {
+                final int label = pop();
+                if (removed[label]) {
+                    continue;
+                }
+                final int node = labelNodes[label];
+                if (node == target) {
+                    routes.add(route(label));
+                    continue;
+                }
+
+                final int offset = label * dimension;
+                for (int e = graph.firstEdge(node), end = graph.endEdge(node); e < end; e++) {
+                    final C criteria = graph.getCriteria(e);
+                    if (criteria.dimension() != dimension) {
+                        throw new IllegalArgumentException(
+                                String.format("edge %d has %d instead of %d costs", e, criteria.dimension(), dimension)
+                        );
+                    }
+                    for (int i = 0; i < dimension; i++) {
+                        scratch[i] = labelCosts[offset + i] + criteria.getValue(i);
+                    }
+                    final int successor = graph.getTarget(e);
+                    if (isDominated(target) || successor != target && isDominated(successor)) {
+                        continue;
+                    }
+                    removeDominated(successor);
+                    if (bagSizes[successor] >= maxLabels) {
+                        continue;
+                    }
+                    push(addLabel(successor, label, e));
+                }
+            }
+            return routes;
+        }
+
+        /**
+         *
+         * @param node The node id
+         * @return True if a label of the node is within the epsilon of the
+         * scratch costs in every cost
+         */
+        private boolean isDominated(int node) {
+            final int[] bag = bags[node];
+            final double factor = 1.0d + epsilon;
+            for (int j = 0; j < bagSizes[node]; j++) {
+                final int offset = bag[j] * dimension;
+                int i = 0;
+                while (i < dimension && labelCosts[offset + i] <= factor * scratch[i]) {
+                    i++;
+                }
+                if (i == dimension) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Remove the labels of a node the scratch costs dominate.
+         *
+         * @param node The node id
+         */
+        private void removeDominated(int node) {
+            final int[] bag = bags[node];
+            int size = 0;
+            for (int j = 0; j < bagSizes[node]; j++) {
+                final int offset = bag[j] * dimension;
+                int i = 0;
+                while (i < dimension && scratch[i] <= labelCosts[offset + i]) {
+                    i++;
+                }
+                if (i == dimension) {
+                    removed[bag[j]] = true;
+                } else {
+                    bag[size++] = bag[j];
+                }
+            }
+            bagSizes[node] = size;
+        }
+
+        /**
+         * Create a label with the scratch costs and add it to the bag of its
+         * node.
+         *
+         * @return The label index
+         */
+        private int addLabel(int node, int predecessor, int edge) {
+            if (labelCount == labelNodes.length) {
+                final int length = labelCount << 1;
+                labelNodes = Arrays.copyOf(labelNodes, length);
+                labelPredecessors = Arrays.copyOf(labelPredecessors, length);
+                labelEdges = Arrays.copyOf(labelEdges, length);
+                labelCosts = Arrays.copyOf(labelCosts, length * dimension);
+                removed = Arrays.copyOf(removed, length);
+            }
+            final int label = labelCount++;
+            labelNodes[label] = node;
+            labelPredecessors[label] = predecessor;
+            labelEdges[label] = edge;
+            System.arraycopy(scratch, 0, labelCosts, label * dimension, dimension);
+
+            int[] bag = bags[node];
+            if (bag == null) {
+                bag = new int[4];
+            } else if (bagSizes[node] == bag.length) {
+                bag = Arrays.copyOf(bag, bag.length << 1);
+            }
+            bags[node] = bag;
+            bag[bagSizes[node]++] = label;
+            return label;
+        }
+
+        private Route<T, C> route(int label) {
+            int length = 1;
+            for (int l = label; labelPredecessors[l] >= 0; l = labelPredecessors[l]) {
+                length++;
+            }
+            final int[] nodes = new int[length];
+            final int[] edges = new int[length - 1];
+            double weight = 0.0d;
+            for (int l = label, i = length - 1; l >= 0; l = labelPredecessors[l], i--) {
+                nodes[i] = labelNodes[l];
+                if (i > 0) {
+                    edges[i - 1] = labelEdges[l];
+                    weight += graph.getWeight(labelEdges[l]);
+                }
+            }
+            final double[] costs = Arrays.copyOfRange(labelCosts, label * dimension, (label + 1) * dimension);
+            return new Route<>(new Path<>(graph, nodes, weight), edges, costs);
+        }
+
+        private int compare(int a, int b) {
+            final int offsetA = a * dimension, offsetB = b * dimension;
+            for (int i = 0; i < dimension; i++) {
+                final int order = Double.compare(labelCosts[offsetA + i], labelCosts[offsetB + i]);
+                if (order != 0) {
+                    return order;
+                }
+            }
+            return 0;
+        }
+
+        private void push(int label) {
+            if (heapSize == heap.length) {
+                heap = Arrays.copyOf(heap, heapSize << 1);
+            }
+            int pos = heapSize++;
+            while (pos > 0) {
+                final int parent = (pos - 1) >>> 1;
+                if (compare(heap[parent], label) <= 0) {
+                    break;
+                }
+                heap[pos] = heap[parent];
+                pos = parent;
+            }
+            heap[pos] = label;
+        }
+
+        private int pop() {
+            final int top = heap[0];
+            final int label = heap[--heapSize];
+            int pos = 0;
+            final int half = heapSize >>> 1;
+            while (pos < half) {
+                int child = 2 * pos + 1;
+                if (child + 1 < heapSize && compare(heap[child + 1], heap[child]) < 0) {
+                    child++;
+                }
+                if (compare(label, heap[child]) <= 0) {
+                    break;
+                }
+                heap[pos] = heap[child];
+                pos = child;
+            }
+            heap[pos] = label;
+            return top;
+        }
+    }
+}
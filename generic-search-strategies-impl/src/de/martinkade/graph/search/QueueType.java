@@ -0,0 +1,68 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+/**
+ * The {@link NodeQueue} implementations {@link Dijkstra} and {@link AStar} can
+ * search with. The monotone queues need non-negative weights and, for
+ * {@link AStar}, a consistent estimator; they pay off when the weights are
+ * integers or fixed-point values, see {@link IntegerNodeQueue}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public enum QueueType {
+
+    /**
+     * The indexed binary heap {@link NodePriorityQueue}.
+     */
+    BINARY_HEAP,
+    /**
+     * The monotone {@link RadixHeap}.
+     */
+    RADIX_HEAP,
+    /**
+     * The monotone {@link BucketQueue} after Dial.
+     */
+    BUCKET_QUEUE;
+
+    /**
+     * Create a queue of this type.
+     *
+     * @param capacity The number of nodes, ids range from 0 to capacity - 1
+     * @param scale The factor turning keys into integers, ignored by the
+     * binary heap
+     * @return The new queue
+     */
+    public NodeQueue create(int capacity, double scale) {
+        switch (this) {
+            case RADIX_HEAP:
+                return new RadixHeap(capacity, scale);
+            case BUCKET_QUEUE:
+                return new BucketQueue(capacity, scale);
+            default:
+                return new NodePriorityQueue(capacity);
+        }
+    }
+}
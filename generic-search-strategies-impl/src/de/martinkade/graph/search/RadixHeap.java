@@ -0,0 +1,88 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+/**
+ * Monotone radix heap over node ids. Bucket 0 holds the nodes whose integer
+ * key equals the key of the last polled node, bucket i the nodes whose key
+ * first differs from it in bit i - 1. Once bucket 0 runs empty, the smallest
+ * key of the first non-empty bucket becomes the new last key and the nodes of
+ * that bucket are spread over the lower buckets. Every node moves down at most
+ * 64 times, so insertions and key decreases take O(1) and polls amortized
+ * O(log C) for keys up to C.
+ * <p/>
+ * See {@link IntegerNodeQueue} for the requirements on the keys.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public final class RadixHeap extends IntegerNodeQueue {
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The number of nodes, ids range from 0 to capacity - 1
+     * @param scale The factor turning keys into integers, 1 for integer keys
+     */
+    public RadixHeap(int capacity, double scale) {
+        super(capacity, scale, Long.SIZE);
+    }
+
+    @Override
+    protected int first() {
+        if (heads[0] >= 0) {
+            return 0;
+        }
+        int bucket = 1;
+        while (heads[bucket] < 0) {
+            bucket++;
+        }
+        long min = Long.MAX_VALUE;
+        for (int id = heads[bucket]; id >= 0; id = next[id]) {
+            min = Math.min(min, integerKeys[id]);
+        }
+        last = min;
+
+        int id = heads[bucket];
+        heads[bucket] = -1;
+        while (id >= 0) {
+            final int successor = next[id];
+            link(id, bucketOf(integerKeys[id]));
+            id = successor;
+        }
+        return 0;
+    }
+
+    @Override
+    protected void clearBuckets() {
+        for (int bucket = 0; bucket < heads.length; bucket++) {
+            clearBucket(bucket);
+        }
+    }
+
+    @Override
+    protected int bucketOf(long integerKey) {
+        return integerKey == last ? 0 : Long.SIZE - Long.numberOfLeadingZeros(integerKey ^ last);
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.Criteria;
+import de.martinkade.graph.Graph;
+import de.martinkade.graph.Node;
+import de.martinkade.graph.Path;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * This class caches the paths of repeated queries on a graph. The cache is
+ * keyed by start node, target node and metric, holds a bounded number of
+ * paths and evicts the least recently used ones first.
+ * <p/>
+ * The cache is split into segments with a lock each, so concurrent queries
+ * only contend if they hit the same segment. Searches run outside of the
+ * locks. Once the {@link Graph#getVersion()} changes, every cached path is
+ * dropped.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <T> Content type of the node
+ * @param <C> The {@link Criteria} implementation that enables to compare
+ * {@link Node} instances to each other
+ */
+public class RouteCache<T, C extends Criteria> {
+
+    /**
+     * The maximum number of segments.
+     */
+    private static final int MAX_SEGMENTS = 16;
+
+    /**
+     * The graph the paths belong to.
+     */
+    private final Graph<T, C> graph;
+
+    /**
+     * The segments, their number is a power of two.
+     */
+    private final Segment<T, C>[] segments;
+
+    /**
+     * The version of the graph the cached paths have been computed for.
+     */
+    private volatile long version;
+
+    /**
+     * Statistics.
+     */
+    private final LongAdder hits, misses, evictions;
+
+    /**
+     * Constructor.
+     *
+     * @param graph The graph to search
+     * @param capacity The maximum number of cached paths
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public RouteCache(Graph<T, C> graph, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(String.format("capacity must be positive: %d", capacity));
+        }
+        this.graph = graph;
+        hits = new LongAdder();
+        misses = new LongAdder();
+        evictions = new LongAdder();
+
+        int count = 1;
+        while (count < MAX_SEGMENTS && count * 2 <= capacity) {
+            count *= 2;
+        }
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            // spread the remainder, so the capacities add up to the total
+            segments[i] = new Segment<>(capacity / count + (i < capacity % count ? 1 : 0), evictions);
+        }
+        version = graph.getVersion();
+    }
+
+    /**
+     * Get the cached path of a query or search and cache it.
+     *
+     * @param startNode The start node
+     * @param targetNode The target node
+     * @param metric Identifies the strategy and the metric it searches with,
+     * e.g. <code>"dijkstra"</code>
+     * @param factory Creates the {@link Strategy} for the start node on a
+     * cache miss, for example <code>Dijkstra::new</code>
+     * @return The path from the start to the target node
+     */
+    public Path<T, C> execute(Node<T, C> startNode, Node<T, C> targetNode, String metric,
+            Function<Node<T, C>, Strategy<T, C>> factory) {
+        final long current = graph.getVersion();
+        if (current != version) {
+            invalidate(current);
+        }
+        if (startNode.getId() < 0 || targetNode.getId() < 0) {
+            misses.increment();
+            return factory.apply(startNode).execute(graph, targetNode);
+        }
+
+        final Key key = new Key(startNode.getId(), targetNode.getId(), metric);
+        final Segment<T, C> segment = segments[key.hash & (segments.length - 1)];
+        CachedPath<T, C> entry;
+        synchronized (segment) {
+            entry = segment.get(key);
+        }
+        if (entry != null && entry.version == current) {
+            hits.increment();
+            return entry.path;
+        }
+
+        misses.increment();
+        final Path<T, C> path = factory.apply(startNode).execute(graph, targetNode);
+        synchronized (segment) {
+            segment.put(key, new CachedPath<>(path, current));
+        }
+        return path;
+    }
+
+    /**
+     * Drop all cached paths.
+     */
+    public void clear() {
+        for (Segment<T, C> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     *
+     * @param current The new version of the graph
+     */
+    private synchronized void invalidate(long current) {
+        if (version != current) {
+            clear();
+            version = current;
+        }
+    }
+
+    /**
+     *
+     * @return The number of cached paths
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<T, C> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     *
+     * @return The share of queries answered from the cache, 0 if there have
+     * not been any
+     */
+    public double getHitRate() {
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+        return total == 0L ? 0.0d : (double) hitCount / total;
+    }
+
+    /**
+     * The key of a query.
+     */
+    private static final class Key {
+
+        private final int startNode, targetNode;
+
+        private final String metric;
+
+        private final int hash;
+
+        Key(int startNode, int targetNode, String metric) {
+            this.startNode = startNode;
+            this.targetNode = targetNode;
+            this.metric = metric;
+            final int h = (31 * (31 * startNode + targetNode) + metric.hashCode()) * 0x9e3779b9;
+            hash = h ^ (h >>> 16);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return startNode == other.startNode && targetNode == other.targetNode
+                    && metric.equals(other.metric);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A cached path and the graph version it has been computed for.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link Criteria} implementation
+     */
+    private static final class CachedPath<T, C extends Criteria> {
+
+        private final Path<T, C> path;
+
+        private final long version;
+
+        CachedPath(Path<T, C> path, long version) {
+            this.path = path;
+            this.version = version;
+        }
+    }
+
+    /**
+     * A part of the cache in access order, guarded by its own monitor.
+     *
+     * @param <T> Content type of the node
+     * @param <C> The {@link Criteria} implementation
+     */
+    private static final class Segment<T, C extends Criteria> extends LinkedHashMap<Key, CachedPath<T, C>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        private final transient LongAdder evictions;
+
+        Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, CachedPath<T, C>> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
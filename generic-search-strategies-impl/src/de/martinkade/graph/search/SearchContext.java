@@ -0,0 +1,394 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.Graph;
+import de.martinkade.graph.Node;
+
+import java.util.Arrays;
+
+/**
+ * This class holds the state of a single search, indexed by
+ * {@link Node#getId()}: the costs and predecessor of every reached node, the
+ * visited flags and the {@link NodePriorityQueue}. Keeping this state apart
+ * from the {@link Graph} allows any number of {@link Strategy} instances to
+ * search the same, read-only graph at the same time.
+ * <p/>
+ * A context is not thread-safe itself. {@link #forCurrentThread()} hands out
+ * one pooled instance per thread, which is reused by all searches running on
+ * that thread. Strategies needing more than one context at a time, for example
+ * one per search direction, use {@link #forCurrentThread(int)}. {@link #reset(int)} only touches the nodes of the previous
+ * search, so reusing a context is cheap for small searches on large graphs.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public class SearchContext {
+
+    /**
+     * The pooled contexts of every thread.
+     */
+    private static final ThreadLocal<SearchContext[]> POOL = ThreadLocal.withInitial(() -> new SearchContext[2]);
+
+    /**
+     * The costs of every node reached by the current search.
+     */
+    private double[] costs;
+
+    /**
+     * The id of the predecessor of every node reached by the current search.
+     */
+    private int[] predecessors;
+
+    /**
+     * The search generation {@link #costs} and {@link #predecessors} of a node
+     * have been written in. Entries of older generations are treated as
+     * unreached, so a reset does not need to clear the arrays.
+     */
+    private int[] stamps;
+
+    /**
+     * The current search generation.
+     */
+    private int generation;
+
+    /**
+     * The visited flags as bit set.
+     */
+    private long[] visited;
+
+    /**
+     * The visited nodes in the order they have been visited, the first
+     * {@link #visitedCount} entries are valid.
+     */
+    private int[] visitedNodes;
+
+    /**
+     * The number of visited nodes.
+     */
+    private int visitedCount;
+
+    /**
+     * The number of nodes settled by the current search without being marked
+     * visited.
+     */
+    private long settledNodes;
+
+    /**
+     * The number of edges looked at by the current search.
+     */
+    private long relaxedEdges;
+
+    /**
+     * The priority queue of the current search.
+     */
+    private final NodePriorityQueue queue;
+
+    /**
+     * The queues by {@link QueueType#ordinal()}, created on first use.
+     */
+    private final NodeQueue[] queues;
+
+    /**
+     * The queue handed out last, the only one that may hold nodes.
+     */
+    private NodeQueue activeQueue;
+
+    /**
+     * Scratch arrays for strategies managing their own frontier, like the
+     * queue of {@link BreadthFirst} or the stack of {@link DepthFirst}.
+     */
+    private int[] frontier, cursors;
+
+    /**
+     * Default constructor.
+     */
+    public SearchContext() {
+        this(0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The number of nodes, ids range from 0 to capacity - 1
+     */
+    public SearchContext(int capacity) {
+        costs = new double[capacity];
+        predecessors = new int[capacity];
+        stamps = new int[capacity];
+        visited = new long[(capacity + 63) >>> 6];
+        visitedNodes = new int[capacity];
+        frontier = new int[capacity];
+        cursors = new int[capacity];
+        queue = new NodePriorityQueue(capacity);
+        queues = new NodeQueue[QueueType.values().length];
+        queues[QueueType.BINARY_HEAP.ordinal()] = queue;
+        activeQueue = queue;
+        generation = 1;
+    }
+
+    /**
+     * Get the pooled context of the calling thread.
+     *
+     * @return The context of the calling thread
+     */
+    public static SearchContext forCurrentThread() {
+        return forCurrentThread(0);
+    }
+
+    /**
+     * Get one of the pooled contexts of the calling thread.
+     *
+     * @param slot The index of the context, 0 for {@link #forCurrentThread()}
+     * @return The context of the calling thread
+     */
+    public static SearchContext forCurrentThread(int slot) {
+        SearchContext[] contexts = POOL.get();
+        if (slot >= contexts.length) {
+            final SearchContext[] grown = new SearchContext[slot + 1];
+            System.arraycopy(contexts, 0, grown, 0, contexts.length);
+            POOL.set(grown);
+            contexts = grown;
+        }
+        if (contexts[slot] == null) {
+            contexts[slot] = new SearchContext();
+        }
+        return contexts[slot];
+    }
+
+    /**
+     * Forget the previous search and make sure node ids up to the given
+     * capacity can be addressed.
+     *
+     * @param capacity The number of nodes, ids range from 0 to capacity - 1
+     */
+    public void reset(int capacity) {
+        if (capacity > stamps.length) {
+            final int length = Math.max(capacity, stamps.length + (stamps.length >>> 1));
+            costs = new double[length];
+            predecessors = new int[length];
+            stamps = new int[length];
+            visited = new long[(length + 63) >>> 6];
+            visitedNodes = new int[length];
+            frontier = new int[length];
+            cursors = new int[length];
+            generation = 1;
+        } else {
+            for (int i = 0; i < visitedCount; i++) {
+                visited[visitedNodes[i] >>> 6] = 0L;
+            }
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(stamps, 0);
+                generation = 1;
+            }
+        }
+        visitedCount = 0;
+        settledNodes = 0L;
+        relaxedEdges = 0L;
+        activeQueue.clear(stamps.length);
+    }
+
+    /**
+     *
+     * @param id The node id
+     * @return True if the node has been reached by the current search
+     */
+    public boolean isReached(int id) {
+        return stamps[id] == generation;
+    }
+
+    /**
+     *
+     * @param id The node id
+     * @return The costs of the node, {@link Double#POSITIVE_INFINITY} if it
+     * has not been reached
+     */
+    public double getCosts(int id) {
+        return stamps[id] == generation ? costs[id] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     *
+     * @param id The node id
+     * @return The id of the predecessor of the node, -1 if there is none
+     */
+    public int getPredecessor(int id) {
+        return stamps[id] == generation ? predecessors[id] : -1;
+    }
+
+    /**
+     * Record the costs and the predecessor of a reached node.
+     *
+     * @param id The node id
+     * @param costs The costs to get to the node
+     * @param predecessor The id of the predecessor, -1 for the start node
+     */
+    public void update(int id, double costs, int predecessor) {
+        this.costs[id] = costs;
+        predecessors[id] = predecessor;
+        stamps[id] = generation;
+    }
+
+    /**
+     *
+     * @param id The node id
+     * @return True if the node has been visited by the current search
+     */
+    public boolean isVisited(int id) {
+        return (visited[id >>> 6] & (1L << id)) != 0L;
+    }
+
+    /**
+     * Mark a node visited, for example once it has been settled.
+     *
+     * @param id The node id
+     */
+    public void setVisited(int id) {
+        final long bit = 1L << id;
+        if ((visited[id >>> 6] & bit) != 0L) {
+            return;
+        }
+        visited[id >>> 6] |= bit;
+        visitedNodes[visitedCount++] = id;
+    }
+
+    /**
+     *
+     * @return The number of visited nodes
+     */
+    public int getVisitedCount() {
+        return visitedCount;
+    }
+
+    /**
+     *
+     * @param index The visit order, from 0 to {@link #getVisitedCount()} - 1
+     * @return The id of the visited node
+     */
+    public int getVisitedNode(int index) {
+        return visitedNodes[index];
+    }
+
+    /**
+     * Count nodes settled by the current search without marking them
+     * visited, see {@link SearchStatistics#getSettledNodes()}.
+     *
+     * @param count The number of nodes
+     */
+    public void addSettledNodes(long count) {
+        settledNodes += count;
+    }
+
+    /**
+     *
+     * @return The number of nodes settled by the current search, the visited
+     * ones included
+     */
+    public long getSettledNodes() {
+        return visitedCount + settledNodes;
+    }
+
+    /**
+     * Count edges looked at by the current search, see
+     * {@link SearchStatistics#getRelaxedEdges()}.
+     *
+     * @param count The number of edges
+     */
+    public void addRelaxedEdges(long count) {
+        relaxedEdges += count;
+    }
+
+    /**
+     *
+     * @return The number of edges looked at by the current search
+     */
+    public long getRelaxedEdges() {
+        return relaxedEdges;
+    }
+
+    public NodePriorityQueue getQueue() {
+        if (activeQueue != queue) {
+            activate(queue);
+        }
+        return queue;
+    }
+
+    /**
+     * Get the queue of the given type, creating it on first use.
+     *
+     * @param type The queue implementation
+     * @param scale The factor turning keys into integers, ignored by
+     * {@link QueueType#BINARY_HEAP}
+     * @return The empty queue after {@link #reset(int)}
+     */
+    public NodeQueue getQueue(QueueType type, double scale) {
+        NodeQueue q = queues[type.ordinal()];
+        if (q == null || q instanceof IntegerNodeQueue && ((IntegerNodeQueue) q).getScale() != scale) {
+            q = type.create(stamps.length, scale);
+            queues[type.ordinal()] = q;
+        }
+        if (activeQueue != q) {
+            activate(q);
+        }
+        return q;
+    }
+
+    /**
+     * Switch to another queue. Both queues are cleared, so all queues but the
+     * active one stay empty and {@link #reset(int)} only has to clear the
+     * active one.
+     *
+     * @param q The queue to hand out from now on
+     */
+    private void activate(NodeQueue q) {
+        activeQueue.clear(stamps.length);
+        q.clear(stamps.length);
+        activeQueue = q;
+    }
+
+    /**
+     *
+     * @return The queue handed out last
+     */
+    NodeQueue getActiveQueue() {
+        return activeQueue;
+    }
+
+    /**
+     *
+     * @return A scratch array holding at least one entry per node, its
+     * content is undefined after {@link #reset(int)}
+     */
+    public int[] getFrontier() {
+        return frontier;
+    }
+
+    /**
+     *
+     * @return A second scratch array like {@link #getFrontier()}
+     */
+    public int[] getCursors() {
+        return cursors;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+/**
+ * Counters of a single {@link Strategy} execution. The instance belongs to
+ * the strategy and gets overwritten by its next execution, so listeners need
+ * to copy the values they want to keep.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public final class SearchStatistics {
+
+    /**
+     * The number of visited nodes.
+     */
+    private long settledNodes;
+
+    /**
+     * The number of edges looked at.
+     */
+    private long relaxedEdges;
+
+    /**
+     * The operations on the priority queue.
+     */
+    private long pushes, polls, decreaseKeys;
+
+    /**
+     * The time spent preparing and running the search.
+     */
+    private long setupNanos, searchNanos;
+
+    /**
+     * Reset all counters.
+     */
+    void clear() {
+        settledNodes = 0L;
+        relaxedEdges = 0L;
+        pushes = 0L;
+        polls = 0L;
+        decreaseKeys = 0L;
+        setupNanos = 0L;
+        searchNanos = 0L;
+    }
+
+    /**
+     * Add the counters of a context, strategies searching more than one
+     * context add each of them before it gets reset.
+     *
+     * @param context The context of the search
+     */
+    public void add(SearchContext context) {
+        settledNodes += context.getSettledNodes();
+        relaxedEdges += context.getRelaxedEdges();
+        final NodeQueue queue = context.getActiveQueue();
+        pushes += queue.getPushCount();
+        polls += queue.getPollCount();
+        decreaseKeys += queue.getDecreaseKeyCount();
+    }
+
+    void setSetupNanos(long setupNanos) {
+        this.setupNanos = setupNanos;
+    }
+
+    void setSearchNanos(long searchNanos) {
+        this.searchNanos = searchNanos;
+    }
+
+    /**
+     *
+     * @return The number of nodes visited, or settled, respectively
+     */
+    public long getSettledNodes() {
+        return settledNodes;
+    }
+
+    /**
+     *
+     * @return The number of edges looked at
+     */
+    public long getRelaxedEdges() {
+        return relaxedEdges;
+    }
+
+    /**
+     *
+     * @return The number of nodes added to the priority queue
+     */
+    public long getPushes() {
+        return pushes;
+    }
+
+    /**
+     *
+     * @return The number of nodes removed from the priority queue
+     */
+    public long getPolls() {
+        return polls;
+    }
+
+    /**
+     *
+     * @return The number of times the key of a queued node has been
+     * lowered
+     */
+    public long getDecreaseKeys() {
+        return decreaseKeys;
+    }
+
+    /**
+     *
+     * @return The nanoseconds from the start of the execution until the
+     * search begins
+     */
+    public long getSetupNanos() {
+        return setupNanos;
+    }
+
+    /**
+     *
+     * @return The nanoseconds of the search itself
+     */
+    public long getSearchNanos() {
+        return searchNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("settled=%d, relaxed=%d, pushes=%d, polls=%d, decreaseKeys=%d, setup=%dns, search=%dns",
+                settledNodes, relaxedEdges, pushes, polls, decreaseKeys, setupNanos, searchNanos);
+    }
+}
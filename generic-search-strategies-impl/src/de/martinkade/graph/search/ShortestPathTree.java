@@ -0,0 +1,229 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.Criteria;
+import de.martinkade.graph.Graph;
+import de.martinkade.graph.IndexedGraph;
+import de.martinkade.graph.Node;
+import de.martinkade.graph.Path;
+
+import java.util.Arrays;
+
+/**
+ * The shortest-path tree of a start node, for answering many queries that
+ * share the start node. The tree is grown by {@link Dijkstra} lazily: a query
+ * settles nodes until its target is settled, and later queries resume where
+ * the previous one stopped. Targets within the settled part are answered in
+ * O(path length).
+ * <p/>
+ * The tree lives in arrays of its own, independent from the pooled
+ * {@link SearchContext}, so several trees can be kept at the same time. It
+ * takes 12 bytes per node plus the priority queue, which is released once
+ * every reachable node has been settled.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ * <p/>
+ * @param <T> Content type of the node
+ * @param <C> The {@link Criteria} implementation that enables to compare
+ * {@link Node} instances to each other
+ */
+public class ShortestPathTree<T, C extends Criteria> {
+
+    /**
+     * The graph the tree belongs to.
+     */
+    private final IndexedGraph<T, C> graph;
+
+    /**
+     * The costs of every node, {@link Double#POSITIVE_INFINITY} if it has not
+     * been reached yet.
+     */
+    private final double[] costs;
+
+    /**
+     * The id of the predecessor of every node, -1 for the start node and
+     * nodes that have not been reached yet.
+     */
+    private final int[] predecessors;
+
+    /**
+     * The settled flags as bit set.
+     */
+    private final long[] settled;
+
+    /**
+     * The number of settled nodes.
+     */
+    private int settledCount;
+
+    /**
+     * The queue of reached but unsettled nodes, null once the tree is
+     * complete.
+     */
+    private NodePriorityQueue queue;
+
+    /**
+     * Constructor, the tree is built for the {@link Graph#compile()} snapshot
+     * of the current version of the graph.
+     *
+     * @param graph The graph to search
+     * @param startNode The root of the tree
+     */
+    public ShortestPathTree(Graph<T, C> graph, Node<T, C> startNode) {
+        this(graph.compile(), startNode);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param graph The graph to search
+     * @param startNode The root of the tree
+     */
+    public ShortestPathTree(IndexedGraph<T, C> graph, Node<T, C> startNode) {
+        this.graph = graph;
+        costs = new double[graph.size()];
+        predecessors = new int[graph.size()];
+        settled = new long[(graph.size() + 63) >>> 6];
+        Arrays.fill(costs, Double.POSITIVE_INFINITY);
+        Arrays.fill(predecessors, -1);
+
+        final int start = startNode.getId();
+        if (start >= 0) {
+            costs[start] = 0.0d;
+            queue = new NodePriorityQueue(graph.size());
+            queue.add(start, 0.0d);
+        }
+    }
+
+    /**
+     * Settle nodes until the given node is settled or the tree is complete.
+     *
+     * @param target The id of the node, -1 to complete the tree
+     */
+    private void settle(int target) {
+        while (queue != null && (target < 0 || !isSettled(target))) {
+            if (queue.isEmpty()) {
+                queue = null;
+                break;
+            }
+            final int node = queue.poll();
+            settled[node >>> 6] |= 1L << node;
+            settledCount++;
+
+            final double nodeCosts = costs[node];
+            for (int e = graph.firstEdge(node), end = graph.endEdge(node); e < end; e++) {
+                final int successor = graph.getTarget(e);
+                final double altCosts = nodeCosts + graph.getWeight(e);
+                if (altCosts < costs[successor]) {
+                    costs[successor] = altCosts;
+                    predecessors[successor] = node;
+                    queue.addOrDecreaseKey(successor, altCosts);
+                }
+            }
+        }
+    }
+
+    /**
+     *
+     * @param id The node id
+     * @return True if the final costs of the node are known
+     */
+    private boolean isSettled(int id) {
+        return (settled[id >>> 6] & (1L << id)) != 0L;
+    }
+
+    /**
+     * Settle all reachable nodes.
+     */
+    public synchronized void complete() {
+        settle(-1);
+    }
+
+    /**
+     *
+     * @return True if all reachable nodes have been settled
+     */
+    public synchronized boolean isComplete() {
+        return queue == null;
+    }
+
+    /**
+     *
+     * @return The number of nodes settled so far
+     */
+    public synchronized int getSettledCount() {
+        return settledCount;
+    }
+
+    /**
+     *
+     * @param targetNode The target node
+     * @return The costs of the cheapest path to the target node,
+     * {@link Double#POSITIVE_INFINITY} if it cannot be reached
+     */
+    public synchronized double getCosts(Node<T, C> targetNode) {
+        final int target = targetNode.getId();
+        if (target < 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        settle(target);
+        return costs[target];
+    }
+
+    /**
+     * Complete the tree and copy the costs of all nodes.
+     *
+     * @return The costs of every node indexed by id,
+     * {@link Double#POSITIVE_INFINITY} for unreachable nodes
+     */
+    public synchronized double[] getAllCosts() {
+        settle(-1);
+        return costs.clone();
+    }
+
+    /**
+     *
+     * @param targetNode The target node
+     * @return The cheapest path from the start to the target node
+     */
+    public synchronized Path<T, C> getPath(Node<T, C> targetNode) {
+        final int target = targetNode.getId();
+        if (target < 0) {
+            return new Path<>(graph, new int[0], Double.POSITIVE_INFINITY);
+        }
+        settle(target);
+
+        int length = 1;
+        for (int id = predecessors[target]; id >= 0; id = predecessors[id]) {
+            length++;
+        }
+        final int[] nodes = new int[length];
+        for (int i = length - 1, id = target; i >= 0; i--, id = predecessors[id]) {
+            nodes[i] = id;
+        }
+        return new Path<>(graph, nodes, costs[target]);
+    }
+}
@@ -25,6 +25,7 @@ package de.martinkade.graph.search;
 
 import de.martinkade.graph.Criteria;
 import de.martinkade.graph.Graph;
+import de.martinkade.graph.IndexedGraph;
 import de.martinkade.graph.Node;
 import de.martinkade.graph.Path;
 
@@ -42,15 +43,31 @@ import java.util.logging.Logger;
  */
 public abstract class Strategy<T, C extends Criteria> {
 
+    /**
+     *
+     */
+    private static final Logger LOGGER = Logger.getLogger(Strategy.class.getName());
+
     /**
      *
      */
     protected final Node<T, C> startNode;
 
     /**
-     * Used for performance monitoring.
+     * The per-query state of the current search, see
+     * {@link SearchContext#forCurrentThread()}.
+     */
+    protected SearchContext context;
+
+    /**
+     * The counters of the last execution.
      */
-    protected long startMillis, execTime;
+    protected final SearchStatistics statistics;
+
+    /**
+     * Notified about completed executions, may be null.
+     */
+    private SearchListener listener;
 
     /**
      *
@@ -58,30 +75,120 @@ public abstract class Strategy<T, C extends Criteria> {
      */
     public Strategy(Node<T, C> startNode) {
         this.startNode = startNode;
+        statistics = new SearchStatistics();
+    }
+
+    /**
+     *
+     * @param listener Notified about every completed execution, null to
+     * remove the current listener
+     */
+    public void setListener(SearchListener listener) {
+        this.listener = listener;
     }
 
     /**
      *
      * @param graph
      */
-    protected abstract void setup(Graph<T, C> graph);
+    protected abstract void setup(IndexedGraph<T, C> graph);
 
     /**
+     * Run the search on the prepared {@link #context}. The result is read
+     * from the costs and predecessors of the context afterwards.
+     *
+     * @param graph The graph to search
+     * @param targetNode The target node
+     */
+    protected abstract void search(IndexedGraph<T, C> graph, Node<T, C> targetNode);
+
+    /**
+     * Search the {@link de.martinkade.graph.CompactGraph} snapshot of the
+     * current version of the graph, see {@link Graph#compile()}.
      *
      * @param graph
      * @param targetNode
      * @return
      */
     public Path<T, C> execute(Graph<T, C> graph, Node<T, C> targetNode) {
-        Logger.getLogger(getClass().getName()).log(Level.INFO,
-                String.format("calculate path from '%s' to '%s'", startNode.getContent().toString(), targetNode.getContent().toString())
-        );
-        startMillis = System.currentTimeMillis();
+        return execute(graph.compile(), targetNode);
+    }
+
+    /**
+     *
+     * @param graph
+     * @param targetNode
+     * @return
+     */
+    public Path<T, C> execute(IndexedGraph<T, C> graph, Node<T, C> targetNode) {
+        run(graph, targetNode);
+        return new Path<>(graph, context, targetNode);
+    }
+
+    /**
+     * Like {@link #execute(de.martinkade.graph.Graph, de.martinkade.graph.Node)},
+     * but only the costs of the path are returned.
+     *
+     * @param graph
+     * @param targetNode
+     * @return The costs of the path, {@link Double#POSITIVE_INFINITY} if the
+     * target cannot be reached
+     */
+    public double executeCosts(Graph<T, C> graph, Node<T, C> targetNode) {
+        return executeCosts(graph.compile(), targetNode);
+    }
+
+    /**
+     * Like {@link #execute(de.martinkade.graph.IndexedGraph, de.martinkade.graph.Node)},
+     * but only the costs of the path are returned. Once the pooled
+     * {@link SearchContext} of the calling thread has grown to the size of the
+     * graph, repeated calls do not allocate any memory.
+     *
+     * @param graph
+     * @param targetNode
+     * @return The costs of the path, {@link Double#POSITIVE_INFINITY} if the
+     * target cannot be reached
+     */
+    public double executeCosts(IndexedGraph<T, C> graph, Node<T, C> targetNode) {
+        run(graph, targetNode);
+        return targetNode.getId() >= 0 ? context.getCosts(targetNode.getId()) : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Prepare the context, search and finish the statistics.
+     *
+     * @param graph
+     * @param targetNode
+     */
+    private void run(IndexedGraph<T, C> graph, Node<T, C> targetNode) {
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, String.format("calculate path from '%s' to '%s'",
+                    startNode.getContent().toString(), targetNode.getContent().toString()));
+        }
+        final long startNanos = System.nanoTime();
+        statistics.clear();
+        context = SearchContext.forCurrentThread();
+        context.reset(graph.size());
         setup(graph);
-        return new Path(targetNode);
+        final long searchStartNanos = System.nanoTime();
+        statistics.setSetupNanos(searchStartNanos - startNanos);
+        search(graph, targetNode);
+        statistics.setSearchNanos(System.nanoTime() - searchStartNanos);
+        statistics.add(context);
+        if (listener != null) {
+            listener.searchCompleted(this, statistics);
+        }
+    }
+
+    /**
+     *
+     * @return The counters of the last execution
+     */
+    public SearchStatistics getStatistics() {
+        return statistics;
     }
 
     public final float getExecTimeSeconds() {
-        return (float) execTime / 1000;
+        return (statistics.getSetupNanos() + statistics.getSearchNanos()) / 1e9f;
     }
 }
@@ -35,12 +35,37 @@ public class City {
      */
     private final String name;
 
+    /**
+     * The geographic coordinates in degrees, {@link Double#NaN} if unknown.
+     */
+    private final double latitude, longitude;
+
     /**
      *
      * @param name
      */
     public City(String name) {
+        this(name, Double.NaN, Double.NaN);
+    }
+
+    /**
+     *
+     * @param name
+     * @param latitude The latitude in degrees
+     * @param longitude The longitude in degrees
+     */
+    public City(String name, double latitude, double longitude) {
         this.name = name;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
     }
 
     @Override
@@ -0,0 +1,100 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search.navigation;
+
+import de.martinkade.graph.Estimator;
+import de.martinkade.graph.Node;
+
+/**
+ * {@link Estimator} returning the great-circle distance between two
+ * {@link City}s in kilometers. A {@link Highway} is never shorter than the
+ * great-circle distance between its cities, so the estimate is admissible for
+ * highway lengths in kilometers. For other metrics, like travel times, the
+ * distance can be scaled, for example by the inverse of the highest speed.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public class HaversineEstimator implements Estimator<City, Highway> {
+
+    /**
+     * The mean earth radius in kilometers.
+     */
+    private static final double EARTH_RADIUS = 6371.0d;
+
+    /**
+     * The factor the distance gets multiplied with.
+     */
+    private final double factor;
+
+    /**
+     * Constructor estimating distances in kilometers.
+     */
+    public HaversineEstimator() {
+        this(1.0d);
+    }
+
+    /**
+     *
+     * @param factor The factor the distance in kilometers gets multiplied
+     * with
+     */
+    public HaversineEstimator(double factor) {
+        this.factor = factor;
+    }
+
+    /**
+     *
+     * @param node
+     * @param targetNode
+     * @return The scaled great-circle distance, 0 if one of the cities has no
+     * coordinates
+     */
+    @Override
+    public double estimate(Node<City, Highway> node, Node<City, Highway> targetNode) {
+        final City city = node.getContent();
+        final City target = targetNode.getContent();
+        final double distance = distance(city.getLatitude(), city.getLongitude(),
+                target.getLatitude(), target.getLongitude());
+        return Double.isNaN(distance) ? 0.0d : factor * distance;
+    }
+
+    /**
+     *
+     * @param latitude The latitude of the first point in degrees
+     * @param longitude The longitude of the first point in degrees
+     * @param otherLatitude The latitude of the second point in degrees
+     * @param otherLongitude The longitude of the second point in degrees
+     * @return The great-circle distance in kilometers
+     */
+    public static double distance(double latitude, double longitude,
+            double otherLatitude, double otherLongitude) {
+        final double dLatitude = Math.toRadians(otherLatitude - latitude);
+        final double dLongitude = Math.toRadians(otherLongitude - longitude);
+        final double a = Math.sin(dLatitude / 2) * Math.sin(dLatitude / 2)
+                + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(otherLatitude))
+                * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
+        return 2 * EARTH_RADIUS * Math.asin(Math.min(1.0d, Math.sqrt(a)));
+    }
+}
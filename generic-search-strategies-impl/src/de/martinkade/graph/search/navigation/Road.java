@@ -0,0 +1,87 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search.navigation;
+
+import de.martinkade.graph.MultiCriteria;
+
+/**
+ * A road with its length, travel time and toll as separate costs.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public class Road implements MultiCriteria {
+
+    /**
+     *
+     */
+    private final String name;
+
+    /**
+     * The length in km, the travel time in hours and the toll.
+     */
+    private final double length, duration, toll;
+
+    /**
+     *
+     * @param name
+     * @param length
+     * @param duration
+     * @param toll
+     */
+    public Road(String name, double length, double duration, double toll) {
+        this.name = name;
+        this.length = length;
+        this.duration = duration;
+        this.toll = toll;
+    }
+
+    @Override
+    public int dimension() {
+        return 3;
+    }
+
+    /**
+     *
+     * @param index 0 for the length, 1 for the travel time, 2 for the toll
+     * @return The cost
+     */
+    @Override
+    public double getValue(int index) {
+        switch (index) {
+            case 0:
+                return length;
+            case 1:
+                return duration;
+            case 2:
+                return toll;
+            default:
+                throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+}
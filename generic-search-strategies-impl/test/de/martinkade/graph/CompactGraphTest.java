@@ -0,0 +1,226 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph;
+
+import de.martinkade.graph.search.Dijkstra;
+import de.martinkade.graph.search.navigation.City;
+import de.martinkade.graph.search.navigation.Highway;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test implementations of {@link CompactGraph}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public class CompactGraphTest {
+
+    /**
+     *
+     */
+    private static final String TAG = CompactGraphTest.class.getName();
+
+    /**
+     * The {@link Graph} instance.
+     */
+    private Graph<City, Highway> map;
+
+    /**
+     * References to some nodes of the graph.
+     */
+    private Node<City, Highway> bayreuthNode, munichNode, cologneNode;
+
+    /**
+     * Default constructor.
+     */
+    public CompactGraphTest() {
+        // empty
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+        // empty
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        // empty
+    }
+
+    @Before
+    public void setUp() {
+        map = new Graph<>();
+
+        bayreuthNode = new Node<>(new City("Bayreuth"));
+        munichNode = new Node<>(new City("Munich"));
+        cologneNode = new Node<>(new City("Cologne"));
+
+        try {
+            bayreuthNode.addSuccessor(munichNode, new Highway("A9", 233.0d));
+            bayreuthNode.addSuccessor(cologneNode, new Highway("A45", 472.0d));
+            map.addNode(bayreuthNode);
+
+            munichNode.addSuccessor(cologneNode, new Highway("A3", 574.0d));
+            map.addNode(munichNode);
+
+            map.addNode(cologneNode);
+        } catch (DuplicateNodeException ex) {
+            Logger.getLogger(CompactGraphTest.class.getName()).log(Level.SEVERE, null, ex);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        // empty
+    }
+
+    /**
+     * Test of {@link CompactGraph#compile(de.martinkade.graph.Graph)}.
+     */
+    @Test
+    public void testCompile() {
+        System.out.println(String.format("@%s#testCompile", TAG));
+
+        final CompactGraph<City, Highway> graph = CompactGraph.compile(map);
+
+        assertEquals(3, graph.size());
+        assertEquals(3, graph.edgeCount());
+        assertSame(bayreuthNode, graph.getNode(bayreuthNode.getId()));
+
+        final int munich = munichNode.getId();
+        assertEquals(1, graph.endEdge(munich) - graph.firstEdge(munich));
+        final int e = graph.firstEdge(munich);
+        assertEquals("Cologne", graph.getNode(graph.getTarget(e)).getContent().toString());
+        assertEquals(574.0d, graph.getWeight(e), 0.0d);
+        assertEquals("A3", graph.getCriteria(e).getName());
+    }
+
+    /**
+     * Test of {@link Graph#compile()}.
+     *
+     * @throws DuplicateNodeException If the test graph is broken
+     */
+    @Test
+    public void testRecompileOnChange() throws DuplicateNodeException {
+        System.out.println(String.format("@%s#testRecompileOnChange", TAG));
+
+        final CompactGraph<City, Highway> graph = map.compile();
+        assertSame(graph, map.compile());
+
+        munichNode.addSuccessor(bayreuthNode, new Highway("A9", 233.0d));
+
+        final CompactGraph<City, Highway> changed = map.compile();
+        assertNotSame(graph, changed);
+        assertEquals(4, changed.edgeCount());
+    }
+
+    /**
+     * Test of {@link Graph#compile()} after
+     * {@link Node#updateSuccessor(de.martinkade.graph.Node, de.martinkade.graph.Criteria)}.
+     */
+    @Test
+    public void testUpdateWeights() {
+        System.out.println(String.format("@%s#testUpdateWeights", TAG));
+
+        final CompactGraph<City, Highway> graph = map.compile();
+        final IndexedGraph<City, Highway> reverse = graph.reverse();
+        munichNode.updateSuccessor(cologneNode, new Highway("A3", 600.0d));
+
+        assertArrayEquals(new long[]{Graph.pack(munichNode.getId(), cologneNode.getId())},
+                map.getWeightChanges(graph.getVersion(), map.getVersion()));
+
+        final CompactGraph<City, Highway> updated = map.compile();
+        assertNotSame(graph, updated);
+        assertEquals(map.getVersion(), updated.getVersion());
+        final int e = updated.firstEdge(munichNode.getId());
+        assertEquals(600.0d, updated.getWeight(e), 0.0d);
+        assertEquals(574.0d, graph.getWeight(e), 0.0d);
+
+        final IndexedGraph<City, Highway> updatedReverse = updated.reverse();
+        assertNotSame(reverse, updatedReverse);
+        final int r = updatedReverse.firstEdge(cologneNode.getId());
+        assertEquals(updated.getWeight(((ReverseGraph<City, Highway>) updatedReverse).getOriginalEdge(r)),
+                updatedReverse.getWeight(r), 0.0d);
+    }
+
+    /**
+     * Test of
+     * {@link Node#updateSuccessor(de.martinkade.graph.Node, de.martinkade.graph.Criteria)}
+     * with a node that is not a successor.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testUpdateMissingSuccessor() {
+        System.out.println(String.format("@%s#testUpdateMissingSuccessor", TAG));
+
+        cologneNode.updateSuccessor(munichNode, new Highway("A3", 600.0d));
+    }
+
+    /**
+     * Test of {@link CompactGraph#withMetric(de.martinkade.graph.Metric)}.
+     */
+    @Test
+    public void testWithMetric() {
+        System.out.println(String.format("@%s#testWithMetric", TAG));
+
+        final CompactGraph<City, Highway> distance = map.compile();
+        final IndexedGraph<City, Highway> reverse = distance.reverse();
+        // hours at 200 km/h on the A3 and 80 km/h elsewhere
+        final CompactGraph<City, Highway> time = distance.withMetric(
+                highway -> highway.numericRepresentation() / ("A3".equals(highway.getName()) ? 200.0d : 80.0d));
+
+        assertEquals(distance.edgeCount(), time.edgeCount());
+        final int e = time.firstEdge(munichNode.getId());
+        assertEquals(distance.getTarget(e), time.getTarget(e));
+        assertSame(distance.getCriteria(e), time.getCriteria(e));
+        assertEquals(574.0d / 200.0d, time.getWeight(e), 1e-12);
+        assertEquals(574.0d, distance.getWeight(e), 0.0d);
+
+        final int r = time.reverse().firstEdge(munichNode.getId());
+        assertEquals(233.0d / 80.0d, time.reverse().getWeight(r), 1e-12);
+        assertEquals(233.0d, reverse.getWeight(r), 0.0d);
+
+        assertEquals("Bayreuth -> Cologne", new Dijkstra<>(bayreuthNode).execute(distance, cologneNode).toString());
+        assertEquals("Bayreuth -> Munich -> Cologne", new Dijkstra<>(bayreuthNode).execute(time, cologneNode).toString());
+    }
+
+    /**
+     * Test of {@link CompactGraph#withWeights(double[])} with a column of the
+     * wrong length.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testWithWeightsMismatch() {
+        System.out.println(String.format("@%s#testWithWeightsMismatch", TAG));
+
+        map.compile().withWeights(new double[1]);
+    }
+}
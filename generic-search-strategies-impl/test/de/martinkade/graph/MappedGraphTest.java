@@ -0,0 +1,203 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph;
+
+import de.martinkade.graph.search.Dijkstra;
+import de.martinkade.graph.search.navigation.City;
+import de.martinkade.graph.search.navigation.Highway;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test implementations of {@link GraphWriter} and {@link MappedGraph}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public class MappedGraphTest {
+
+    /**
+     *
+     */
+    private static final String TAG = MappedGraphTest.class.getName();
+
+    /**
+     * The codec storing the name of a {@link City} as payload.
+     */
+    private static final ContentCodec<City> CODEC = new ContentCodec<City>() {
+
+        @Override
+        public byte[] encode(City content) {
+            return content.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public City decode(byte[] payload) {
+            return new City(new String(payload, StandardCharsets.UTF_8));
+        }
+    };
+
+    /**
+     * The {@link Graph} instance.
+     */
+    private Graph<City, Highway> map;
+
+    /**
+     * References to the start and target node, respectively.
+     */
+    private Node<City, Highway> startNode, targetNode;
+
+    /**
+     * The graph file.
+     */
+    private File file;
+
+    /**
+     * Default constructor.
+     */
+    public MappedGraphTest() {
+        // empty
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+        // empty
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        // empty
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        map = new Graph<>();
+
+        final Node<City, Highway> bayreuthNode = new Node<>(new City("Bayreuth"));
+        final Node<City, Highway> munichNode = new Node<>(new City("Munich"));
+        final Node<City, Highway> cologneNode = new Node<>(new City("Cologne"));
+        final Node<City, Highway> berlinNode = new Node<>(new City("Berlin"));
+        final Node<City, Highway> deggendorfNode = new Node<>(new City("Deggendorf"));
+
+        try {
+            bayreuthNode.addSuccessor(munichNode, new Highway("A9", 233.0d));
+            bayreuthNode.addSuccessor(cologneNode, new Highway("A45", 472.0d));
+            bayreuthNode.addSuccessor(deggendorfNode, new Highway("A93", 233.0d));
+            map.addNode(bayreuthNode);
+
+            deggendorfNode.addSuccessor(munichNode, new Highway("A92", 153.0d));
+            map.addNode(deggendorfNode);
+
+            munichNode.addSuccessor(cologneNode, new Highway("A3", 574.0d));
+            map.addNode(munichNode);
+
+            cologneNode.addSuccessor(berlinNode, new Highway("A2", 575.0d));
+            map.addNode(cologneNode);
+
+            berlinNode.addSuccessor(bayreuthNode, new Highway("A9", 416.0d));
+            map.addNode(berlinNode);
+        } catch (DuplicateNodeException ex) {
+            Logger.getLogger(MappedGraphTest.class.getName()).log(Level.SEVERE, null, ex);
+        }
+
+        startNode = bayreuthNode;
+        targetNode = berlinNode;
+
+        file = File.createTempFile("graph", ".bin");
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    /**
+     * Test of {@link MappedGraph#open(java.io.File, de.martinkade.graph.ContentCodec)}.
+     *
+     * @throws IOException If the graph file cannot be written or read
+     */
+    @Test
+    public void testOpen() throws IOException {
+        System.out.println(String.format("@%s#testOpen", TAG));
+
+        final CompactGraph<City, Highway> compiled = map.compile();
+        GraphWriter.write(compiled, CODEC, file);
+
+        try (MappedGraph<City, Highway> graph = MappedGraph.open(file, CODEC)) {
+            assertEquals(compiled.size(), graph.size());
+            assertEquals(compiled.edgeCount(), graph.edgeCount());
+            for (int v = 0; v < graph.size(); v++) {
+                assertEquals(compiled.getNode(v).getContent().toString(),
+                        graph.getNode(v).getContent().toString());
+                assertEquals(compiled.firstEdge(v), graph.firstEdge(v));
+                assertEquals(compiled.endEdge(v), graph.endEdge(v));
+            }
+            for (int e = 0; e < graph.edgeCount(); e++) {
+                assertEquals(compiled.getTarget(e), graph.getTarget(e));
+                assertEquals(compiled.getWeight(e), graph.getWeight(e), 0.0d);
+            }
+
+            final Path<City, Highway> path = new Dijkstra<>(graph.getNode(startNode.getId()))
+                    .execute(graph, graph.getNode(targetNode.getId()));
+            assertEquals("Bayreuth -> Cologne -> Berlin", path.toString());
+        }
+    }
+
+    /**
+     * Test of {@link MappedGraph#open(java.io.File, de.martinkade.graph.ContentCodec)}
+     * with truncated graph files.
+     *
+     * @throws IOException If the graph file cannot be written
+     */
+    @Test
+    public void testOpenTruncated() throws IOException {
+        System.out.println(String.format("@%s#testOpenTruncated", TAG));
+
+        GraphWriter.write(map.compile(), CODEC, file);
+        final long length = file.length();
+        for (long truncated = length - 1; truncated >= GraphWriter.HEADER_BYTES; truncated--) {
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(truncated);
+            }
+            try {
+                MappedGraph.open(file, CODEC).close();
+                fail(String.format("opened a file truncated to %d of %d bytes", truncated, length));
+            } catch (IOException ex) {
+                assertEquals("truncated graph file", ex.getMessage());
+            }
+        }
+    }
+}
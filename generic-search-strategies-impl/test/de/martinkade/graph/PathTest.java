@@ -0,0 +1,142 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph;
+
+import de.martinkade.graph.search.Dijkstra;
+import de.martinkade.graph.search.navigation.City;
+import de.martinkade.graph.search.navigation.Highway;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test implementations of {@link Path}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public class PathTest {
+
+    /**
+     *
+     */
+    private static final String TAG = PathTest.class.getName();
+
+    /**
+     * The {@link Graph} instance.
+     */
+    private Graph<City, Highway> map;
+
+    /**
+     * References to some nodes of the graph.
+     */
+    private Node<City, Highway> bayreuthNode, munichNode, cologneNode;
+
+    /**
+     * Default constructor.
+     */
+    public PathTest() {
+        // empty
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+        // empty
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        // empty
+    }
+
+    @Before
+    public void setUp() {
+        map = new Graph<>();
+
+        bayreuthNode = new Node<>(new City("Bayreuth"));
+        munichNode = new Node<>(new City("Munich"));
+        cologneNode = new Node<>(new City("Cologne"));
+
+        try {
+            bayreuthNode.addSuccessor(munichNode, new Highway("A9", 233.0d));
+            bayreuthNode.addSuccessor(cologneNode, new Highway("A45", 472.0d));
+            map.addNode(bayreuthNode);
+
+            munichNode.addSuccessor(cologneNode, new Highway("A3", 574.0d));
+            map.addNode(munichNode);
+
+            map.addNode(cologneNode);
+        } catch (DuplicateNodeException ex) {
+            Logger.getLogger(PathTest.class.getName()).log(Level.SEVERE, null, ex);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        // empty
+    }
+
+    /**
+     * Test of {@link Path#getNodes()} and {@link Path#getEdges()}.
+     */
+    @Test
+    public void testFound() {
+        System.out.println(String.format("@%s#testFound", TAG));
+
+        final Path<City, Highway> path = new Dijkstra<>(munichNode).execute(map, cologneNode);
+
+        assertTrue(path.isFound());
+        assertEquals(574.0d, path.getCosts(), 0.0d);
+        assertEquals(2, path.size());
+        assertArrayEquals(new int[]{munichNode.getId(), cologneNode.getId()}, path.getNodeIds());
+        assertSame(munichNode, path.getNodes().get(0));
+        assertEquals("Cologne", path.getContents().get(1).toString());
+        assertEquals(1, path.getEdges().size());
+        assertEquals("A3", path.getEdges().get(0).getName());
+        assertEquals("Munich -> Cologne", path.toString());
+    }
+
+    /**
+     * Test of a {@link Path} whose target has not been reached.
+     */
+    @Test
+    public void testNotFound() {
+        System.out.println(String.format("@%s#testNotFound", TAG));
+
+        final Path<City, Highway> path = new Dijkstra<>(cologneNode).execute(map, bayreuthNode);
+
+        assertFalse(path.isFound());
+        assertEquals(Double.POSITIVE_INFINITY, path.getCosts(), 0.0d);
+        assertEquals(1, path.size());
+        assertSame(bayreuthNode, path.getNodes().get(0));
+        assertTrue(path.getEdges().isEmpty());
+    }
+}
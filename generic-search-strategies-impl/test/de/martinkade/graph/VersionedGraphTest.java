@@ -0,0 +1,183 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph;
+
+import de.martinkade.graph.search.Dijkstra;
+import de.martinkade.graph.search.navigation.Highway;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test implementations of {@link VersionedGraph}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public class VersionedGraphTest {
+
+    /**
+     *
+     */
+    private static final String TAG = VersionedGraphTest.class.getName();
+
+    /**
+     * The {@link VersionedGraph} instance.
+     */
+    private VersionedGraph<Integer, Highway> graph;
+
+    /**
+     * The nodes by id.
+     */
+    private List<Node<Integer, Highway>> nodes;
+
+    /**
+     * Default constructor.
+     */
+    public VersionedGraphTest() {
+        // empty
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+        // empty
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        // empty
+    }
+
+    @Before
+    public void setUp() throws DuplicateNodeException {
+        graph = new VersionedGraph<>();
+        nodes = new ArrayList<>();
+        graph.update(g -> {
+            for (int i = 0; i < 100; i++) {
+                final Node<Integer, Highway> node = new Node<>(i);
+                nodes.add(node);
+                g.addNode(node);
+            }
+            for (int i = 1; i < 100; i++) {
+                nodes.get(i - 1).addSuccessor(nodes.get(i), new Highway("R" + i, 1.0d));
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        // empty
+    }
+
+    /**
+     * Test of {@link VersionedGraph#snapshot()} staying unchanged by later
+     * updates.
+     *
+     * @throws DuplicateNodeException If the test graph is broken
+     */
+    @Test
+    public void testSnapshot() throws DuplicateNodeException {
+        System.out.println(String.format("@%s#testSnapshot", TAG));
+
+        final CompactGraph<Integer, Highway> pinned = graph.snapshot();
+        final Node<Integer, Highway> first = nodes.get(0), last = nodes.get(99);
+
+        graph.update(g -> first.addSuccessor(last, new Highway("shortcut", 10.0d)));
+        assertEquals(10.0d, new Dijkstra<>(first).executeCosts(graph.snapshot(), last), 0.0d);
+
+        graph.update(g -> first.updateSuccessor(last, new Highway("shortcut", 200.0d)));
+        assertEquals(99.0d, new Dijkstra<>(first).executeCosts(graph.snapshot(), last), 0.0d);
+
+        assertEquals(99.0d, new Dijkstra<>(first).executeCosts(pinned, last), 0.0d);
+        assertEquals(99, pinned.edgeCount());
+        assertTrue(graph.getVersion() > pinned.getVersion());
+    }
+
+    /**
+     * Test of {@link VersionedGraph#update(de.martinkade.graph.VersionedGraph.Update)}
+     * while other threads search the published snapshots.
+     *
+     * @throws Exception If a thread fails
+     */
+    @Test
+    public void testConcurrentUpdates() throws Exception {
+        System.out.println(String.format("@%s#testConcurrentUpdates", TAG));
+
+        final AtomicBoolean done = new AtomicBoolean();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final List<Future<Integer>> readers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final long seed = t;
+            readers.add(executor.submit(() -> {
+                final Random random = new Random(seed);
+                int queries = 0;
+                while (!done.get() || queries == 0) {
+                    final CompactGraph<Integer, Highway> snapshot = graph.snapshot();
+                    final Node<Integer, Highway> start = snapshot.getNode(random.nextInt(snapshot.size()));
+                    final Node<Integer, Highway> target = snapshot.getNode(random.nextInt(snapshot.size()));
+                    final double costs = new Dijkstra<>(start).executeCosts(snapshot, target);
+                    assertEquals(Dijkstra.distances(snapshot, start.getId())[target.getId()], costs, 0.0d);
+                    queries++;
+                }
+                return queries;
+            }));
+        }
+
+        final Random random = new Random(42L);
+        for (int i = 0; i < 200; i++) {
+            final int round = i;
+            graph.update(g -> {
+                final Node<Integer, Highway> node = new Node<>(100 + round);
+                final Node<Integer, Highway> from = nodes.get(random.nextInt(nodes.size()));
+                g.addNode(node);
+                from.addSuccessor(node, new Highway("N" + round, 1 + random.nextInt(10)));
+                node.addSuccessor(nodes.get(random.nextInt(nodes.size())), new Highway("M" + round, 1 + random.nextInt(10)));
+                nodes.add(node);
+            });
+            graph.update(g -> {
+                final Node<Integer, Highway> node = nodes.get(nodes.size() - 1);
+                node.updateSuccessor(node.getSuccessors().keySet().iterator().next(), new Highway("W" + round, 5.0d));
+            });
+        }
+        done.set(true);
+
+        for (Future<Integer> reader : readers) {
+            assertTrue(reader.get() > 0);
+        }
+        executor.shutdown();
+        assertEquals(300, graph.snapshot().size());
+    }
+}
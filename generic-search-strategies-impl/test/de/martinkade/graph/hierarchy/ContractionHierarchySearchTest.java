@@ -0,0 +1,196 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.hierarchy;
+
+import de.martinkade.graph.CompactGraph;
+import de.martinkade.graph.DuplicateNodeException;
+import de.martinkade.graph.Graph;
+import de.martinkade.graph.Node;
+import de.martinkade.graph.Path;
+import de.martinkade.graph.search.Dijkstra;
+import de.martinkade.graph.search.Strategy;
+import de.martinkade.graph.search.navigation.City;
+import de.martinkade.graph.search.navigation.Highway;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test implementations of {@link ContractionHierarchySearch} strategy.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public class ContractionHierarchySearchTest {
+
+    /**
+     *
+     */
+    private static final String TAG = ContractionHierarchySearchTest.class.getName();
+
+    /**
+     * The {@link Graph} instance.
+     */
+    private Graph<City, Highway> map;
+
+    /**
+     * References to the start and target node, respectively.
+     */
+    private Node<City, Highway> startNode, targetNode;
+
+    /**
+     * Default constructor.
+     */
+    public ContractionHierarchySearchTest() {
+        // empty
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+        // empty
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        // empty
+    }
+
+    @Before
+    public void setUp() {
+        map = new Graph<>();
+
+        final Node<City, Highway> bayreuthNode = new Node<>(new City("Bayreuth"));
+        final Node<City, Highway> munichNode = new Node<>(new City("Munich"));
+        final Node<City, Highway> cologneNode = new Node<>(new City("Cologne"));
+        final Node<City, Highway> berlinNode = new Node<>(new City("Berlin"));
+        final Node<City, Highway> deggendorfNode = new Node<>(new City("Deggendorf"));
+
+        try {
+            bayreuthNode.addSuccessor(munichNode, new Highway("A9", 233.0d));
+            bayreuthNode.addSuccessor(cologneNode, new Highway("A45", 472.0d));
+            bayreuthNode.addSuccessor(deggendorfNode, new Highway("A93", 233.0d));
+            map.addNode(bayreuthNode);
+
+            deggendorfNode.addSuccessor(munichNode, new Highway("A92", 153.0d));
+            map.addNode(deggendorfNode);
+
+            munichNode.addSuccessor(cologneNode, new Highway("A3", 574.0d));
+            map.addNode(munichNode);
+
+            cologneNode.addSuccessor(berlinNode, new Highway("A2", 575.0d));
+            map.addNode(cologneNode);
+
+            berlinNode.addSuccessor(bayreuthNode, new Highway("A9", 416.0d));
+            map.addNode(berlinNode);
+        } catch (DuplicateNodeException ex) {
+            Logger.getLogger(ContractionHierarchySearchTest.class.getName()).log(Level.SEVERE, null, ex);
+        }
+
+        startNode = bayreuthNode;
+        targetNode = berlinNode;
+    }
+
+    @After
+    public void tearDown() {
+        // empty
+    }
+
+    /**
+     * Test of
+     * {@link ContractionHierarchySearch#execute(de.martinkade.graph.Graph, de.martinkade.graph.Node)}.
+     */
+    @Test
+    public void testExecute() {
+        System.out.println(String.format("@%s#testExecute", TAG));
+
+        final ContractionHierarchy<City, Highway> hierarchy = ContractionHierarchy.build(map.compile());
+        final Strategy<City, Highway> search = new ContractionHierarchySearch<>(startNode, hierarchy);
+        final Path<City, Highway> path = search.execute(map, targetNode);
+
+        assertEquals("Bayreuth -> Cologne -> Berlin", path.toString());
+        assertEquals(1047.0d, path.getCosts(), 0.0d);
+    }
+
+    /**
+     * Test of
+     * {@link ContractionHierarchySearch#execute(de.martinkade.graph.Graph, de.martinkade.graph.Node)}
+     * against {@link Dijkstra} on a random graph, including the unpacked
+     * original edges.
+     *
+     * @throws DuplicateNodeException If the random graph is broken
+     */
+    @Test
+    public void testExecuteMatchesDijkstra() throws DuplicateNodeException {
+        System.out.println(String.format("@%s#testExecuteMatchesDijkstra", TAG));
+
+        final Random random = new Random(3L);
+        final Graph<Integer, Highway> graph = new Graph<>();
+        final List<Node<Integer, Highway>> nodes = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            final Node<Integer, Highway> node = new Node<>(i);
+            nodes.add(node);
+            graph.addNode(node);
+        }
+        for (int i = 0; i < 2000; i++) {
+            final Node<Integer, Highway> from = nodes.get(random.nextInt(nodes.size()));
+            final Node<Integer, Highway> to = nodes.get(random.nextInt(nodes.size()));
+            if (from != to && !from.hasSuccessor(to)) {
+                from.addSuccessor(to, new Highway("R" + i, 1 + random.nextInt(100)));
+            }
+        }
+
+        final CompactGraph<Integer, Highway> compiled = graph.compile();
+        final ContractionHierarchy<Integer, Highway> hierarchy = ContractionHierarchy.build(compiled);
+
+        for (int i = 0; i < 200; i++) {
+            final Node<Integer, Highway> start = nodes.get(random.nextInt(nodes.size()));
+            final Node<Integer, Highway> target = nodes.get(random.nextInt(nodes.size()));
+
+            final Path<Integer, Highway> expected = new Dijkstra<>(start).execute(compiled, target);
+            final Path<Integer, Highway> path = new ContractionHierarchySearch<>(start, hierarchy).execute(compiled, target);
+
+            assertEquals(expected.getCosts(), path.getCosts(), 1e-9);
+            if (!Double.isInfinite(path.getCosts())) {
+                double costs = 0.0d;
+                for (int j = 1; j < path.getNodes().size(); j++) {
+                    costs += path.getNodes().get(j - 1).getSuccessors()
+                            .get(path.getNodes().get(j)).numericRepresentation();
+                }
+                assertEquals(path.getCosts(), costs, 1e-9);
+                assertSame(start, path.getNodes().get(0));
+                assertSame(target, path.getNodes().get(path.getNodes().size() - 1));
+            }
+        }
+    }
+}
@@ -25,10 +25,10 @@ package de.martinkade.graph.search;
 
 import de.martinkade.graph.DuplicateNodeException;
 import de.martinkade.graph.Graph;
-import de.martinkade.graph.Heuristic;
 import de.martinkade.graph.Node;
 import de.martinkade.graph.Path;
 import de.martinkade.graph.search.navigation.City;
+import de.martinkade.graph.search.navigation.HaversineEstimator;
 import de.martinkade.graph.search.navigation.Highway;
 
 import java.util.logging.Level;
@@ -64,11 +64,6 @@ public class AStarTest {
      */
     private Node<City, Highway> startNode, targetNode;
 
-    /**
-     * The navigation specific {@link Heuristic} implementation.
-     */
-    private Heuristic<City, Highway> heuristic;
-
     /**
      * Default constructor.
      */
@@ -90,11 +85,11 @@ public class AStarTest {
     public void setUp() {
         map = new Graph<>();
 
-        final Node<City, Highway> bayreuthNode = new Node<>(new City("Bayreuth"));
-        final Node<City, Highway> munichNode = new Node<>(new City("Munich"));
-        final Node<City, Highway> cologneNode = new Node<>(new City("Cologne"));
-        final Node<City, Highway> berlinNode = new Node<>(new City("Berlin"));
-        final Node<City, Highway> deggendorfNode = new Node<>(new City("Deggendorf"));
+        final Node<City, Highway> bayreuthNode = new Node<>(new City("Bayreuth", 49.9456d, 11.5713d));
+        final Node<City, Highway> munichNode = new Node<>(new City("Munich", 48.1351d, 11.5820d));
+        final Node<City, Highway> cologneNode = new Node<>(new City("Cologne", 50.9375d, 6.9603d));
+        final Node<City, Highway> berlinNode = new Node<>(new City("Berlin", 52.5200d, 13.4050d));
+        final Node<City, Highway> deggendorfNode = new Node<>(new City("Deggendorf", 48.8353d, 12.9644d));
 
         try {
             bayreuthNode.addSuccessor(munichNode, new Highway("A9", 233.0d));
@@ -119,16 +114,6 @@ public class AStarTest {
 
         startNode = bayreuthNode;
         targetNode = berlinNode;
-
-        heuristic = (Node<City, Highway> node, Node<City, Highway> otherNode) -> {
-            if (otherNode.getCosts() < node.getCosts()) {
-                return 1;
-            }
-            if (otherNode.getCosts() > node.getCosts()) {
-                return -1;
-            }
-            return 0;
-        };
     }
 
     @After
@@ -144,7 +129,7 @@ public class AStarTest {
     public void testExecute() {
         System.out.println(String.format("@%s#testExecute", TAG));
 
-        final Strategy<City, Highway> aStar = new AStar<>(startNode, heuristic);
+        final Strategy<City, Highway> aStar = new AStar<>(startNode, new HaversineEstimator());
         final Path<City, Highway> path = aStar.execute(map, targetNode);
 
         final String expResult = "Bayreuth -> Cologne -> Berlin";
@@ -159,4 +144,80 @@ public class AStarTest {
                 )
         );
     }
+
+    /**
+     * Test of
+     * {@link AStar#execute(de.martinkade.graph.Graph, de.martinkade.graph.Node)}
+     * with a {@link HaversineEstimator} against {@link Dijkstra} on a grid of
+     * cities.
+     *
+     * @throws DuplicateNodeException If the grid is broken
+     */
+    @Test
+    public void testExecuteWithEstimator() throws DuplicateNodeException {
+        System.out.println(String.format("@%s#testExecuteWithEstimator", TAG));
+
+        // the highways are a bit longer than the great-circle distance, so the
+        // estimate never exceeds the remaining costs
+        final int size = 20;
+        final Graph<City, Highway> grid = new Graph<>();
+        final Node<City, Highway>[][] cities = newGrid(size);
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                final Node<City, Highway> node = new Node<>(new City(String.format("%d/%d", row, column),
+                        48.0d + 0.1d * row, 10.0d + 0.1d * column));
+                cities[row][column] = node;
+                grid.addNode(node);
+            }
+        }
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                if (row + 1 < size) {
+                    connect(cities[row][column], cities[row + 1][column]);
+                }
+                if (column + 1 < size) {
+                    connect(cities[row][column], cities[row][column + 1]);
+                }
+            }
+        }
+
+        final Node<City, Highway> start = cities[size / 2][0];
+        final Node<City, Highway> target = cities[size / 2][size - 1];
+        final Strategy<City, Highway> dijkstra = new Dijkstra<>(start);
+        final Path<City, Highway> expected = dijkstra.execute(grid, target);
+        final Strategy<City, Highway> aStar = new AStar<>(start, new HaversineEstimator());
+        final Path<City, Highway> path = aStar.execute(grid, target);
+
+        assertEquals(expected.getCosts(), path.getCosts(), 1e-9);
+        assertTrue(String.format("A* settled %d nodes, Dijkstra %d",
+                aStar.getStatistics().getSettledNodes(), dijkstra.getStatistics().getSettledNodes()),
+                aStar.getStatistics().getSettledNodes() < dijkstra.getStatistics().getSettledNodes());
+    }
+
+    /**
+     *
+     * @param size The number of rows and columns
+     * @return An empty grid of nodes
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Node<City, Highway>[][] newGrid(int size) {
+        return new Node[size][size];
+    }
+
+    /**
+     * Connect two cities in both directions.
+     *
+     * @param node The one city
+     * @param otherNode The other city
+     * @throws DuplicateNodeException If the cities are connected already
+     */
+    private static void connect(Node<City, Highway> node, Node<City, Highway> otherNode)
+            throws DuplicateNodeException {
+        final City city = node.getContent();
+        final City otherCity = otherNode.getContent();
+        final double length = 1.2d * HaversineEstimator.distance(city.getLatitude(), city.getLongitude(),
+                otherCity.getLatitude(), otherCity.getLongitude());
+        node.addSuccessor(otherNode, new Highway("A" + city, length));
+        otherNode.addSuccessor(node, new Highway("A" + otherCity, length));
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.DuplicateNodeException;
+import de.martinkade.graph.Graph;
+import de.martinkade.graph.Node;
+import de.martinkade.graph.search.navigation.Highway;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test implementations of {@link BatchExecutor}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public class BatchExecutorTest {
+
+    /**
+     *
+     */
+    private static final String TAG = BatchExecutorTest.class.getName();
+
+    /**
+     * The {@link Graph} instance.
+     */
+    private Graph<Integer, Highway> graph;
+
+    /**
+     * The nodes of the graph.
+     */
+    private List<Node<Integer, Highway>> nodes;
+
+    /**
+     * Default constructor.
+     */
+    public BatchExecutorTest() {
+        // empty
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+        // empty
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        // empty
+    }
+
+    @Before
+    public void setUp() throws DuplicateNodeException {
+        final Random random = new Random(13L);
+        graph = new Graph<>();
+        nodes = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final Node<Integer, Highway> node = new Node<>(i);
+            nodes.add(node);
+            graph.addNode(node);
+        }
+        for (int i = 0; i < 800; i++) {
+            final Node<Integer, Highway> from = nodes.get(random.nextInt(nodes.size()));
+            final Node<Integer, Highway> to = nodes.get(random.nextInt(nodes.size()));
+            if (from != to && !from.hasSuccessor(to)) {
+                from.addSuccessor(to, new Highway("R" + i, 1 + random.nextInt(100)));
+            }
+        }
+    }
+
+    @After
+    public void tearDown() {
+        // empty
+    }
+
+    /**
+     * Test of
+     * {@link BatchExecutor#execute(de.martinkade.graph.Graph, java.util.List)}.
+     */
+    @Test
+    public void testExecute() {
+        System.out.println(String.format("@%s#testExecute", TAG));
+
+        final Random random = new Random(17L);
+        final List<BatchExecutor.Query<Integer, Highway>> queries = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            queries.add(new BatchExecutor.Query<>(nodes.get(random.nextInt(nodes.size())),
+                    nodes.get(random.nextInt(nodes.size()))));
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final BatchExecutor<Integer, Highway> executor = new BatchExecutor<>(Dijkstra::new, pool);
+            final BatchExecutor.Result<Integer, Highway> result = executor.execute(graph, queries);
+
+            assertEquals(queries.size(), result.getPaths().size());
+            for (int i = 0; i < queries.size(); i++) {
+                final BatchExecutor.Query<Integer, Highway> query = queries.get(i);
+                final double expected = new Dijkstra<>(query.getStartNode())
+                        .execute(graph, query.getTargetNode()).getCosts();
+                assertEquals(expected, result.getPaths().get(i).getCosts(), 0.0d);
+            }
+            assertTrue(result.getQueriesPerSecond() > 0.0d);
+
+            System.out.println(String.format("throughput: %.0f [queries/s]", result.getQueriesPerSecond()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test implementations of {@link BucketQueue}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public class BucketQueueTest {
+
+    /**
+     *
+     */
+    private static final String TAG = BucketQueueTest.class.getName();
+
+    /**
+     * The queue under test.
+     */
+    private BucketQueue queue;
+
+    /**
+     * Default constructor.
+     */
+    public BucketQueueTest() {
+        // empty
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+        // empty
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        // empty
+    }
+
+    @Before
+    public void setUp() {
+        queue = new BucketQueue(8, 1.0d);
+    }
+
+    @After
+    public void tearDown() {
+        // empty
+    }
+
+    /**
+     * Test of {@link BucketQueue#add(int, double)} with keys beyond the
+     * initial buckets.
+     */
+    @Test
+    public void testGrow() {
+        System.out.println(String.format("@%s#testGrow", TAG));
+
+        queue.add(0, 3.0d);
+        queue.add(1, 5000.0d);
+        queue.add(2, 1030.0d);
+        queue.add(3, 1024.0d + 3.0d);
+        queue.decreaseKey(1, 4.0d);
+
+        assertEquals(0, queue.poll());
+        assertEquals(1, queue.poll());
+        assertEquals(3, queue.poll());
+        queue.add(4, 1028.0d);
+        assertEquals(4, queue.poll());
+        assertEquals(2, queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * Test of {@link BucketQueue#decreaseKey(int, double)} below the last
+     * polled key.
+     */
+    @Test
+    public void testBelowLastKey() {
+        System.out.println(String.format("@%s#testBelowLastKey", TAG));
+
+        queue.add(0, 10.0d);
+        queue.add(1, 20.0d);
+        assertEquals(0, queue.poll());
+
+        queue.decreaseKey(1, 9.5d);
+        assertEquals(9.5d, queue.getKey(1), 0.0d);
+        try {
+            queue.decreaseKey(1, 2.0d);
+            fail("key below the last polled key");
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    /**
+     * Test of {@link BucketQueue#clear(int)} after the buckets have grown.
+     */
+    @Test
+    public void testClearAfterGrow() {
+        System.out.println(String.format("@%s#testClearAfterGrow", TAG));
+
+        queue.add(0, 5.0d);
+        queue.add(1, 1 << 20);
+        queue.add(2, 7.0d);
+        assertEquals(0, queue.poll());
+        queue.clear(8);
+
+        assertTrue(queue.isEmpty());
+        assertFalse(queue.contains(1));
+        assertFalse(queue.contains(2));
+        assertEquals(0L, queue.getPushCount());
+
+        queue.add(2, 3.0d);
+        queue.add(1, 2.0d);
+        assertEquals(1, queue.poll());
+        assertEquals(2, queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+}
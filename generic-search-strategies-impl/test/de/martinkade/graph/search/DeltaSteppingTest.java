@@ -0,0 +1,287 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.CompactGraph;
+import de.martinkade.graph.DuplicateNodeException;
+import de.martinkade.graph.Graph;
+import de.martinkade.graph.Node;
+import de.martinkade.graph.Path;
+import de.martinkade.graph.search.navigation.City;
+import de.martinkade.graph.search.navigation.Highway;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test implementations of {@link DeltaStepping}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public class DeltaSteppingTest {
+
+    /**
+     *
+     */
+    private static final String TAG = DeltaSteppingTest.class.getName();
+
+    /**
+     * The {@link Graph} instance.
+     */
+    private Graph<City, Highway> map;
+
+    /**
+     * References to the start and target node, respectively.
+     */
+    private Node<City, Highway> startNode, targetNode;
+
+    /**
+     * Reference to a second start node.
+     */
+    private Node<City, Highway> otherStartNode;
+
+    /**
+     * Default constructor.
+     */
+    public DeltaSteppingTest() {
+        // empty
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+        // empty
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        // empty
+    }
+
+    @Before
+    public void setUp() {
+        map = new Graph<>();
+
+        final Node<City, Highway> bayreuthNode = new Node<>(new City("Bayreuth"));
+        final Node<City, Highway> munichNode = new Node<>(new City("Munich"));
+        final Node<City, Highway> cologneNode = new Node<>(new City("Cologne"));
+        final Node<City, Highway> berlinNode = new Node<>(new City("Berlin"));
+        final Node<City, Highway> deggendorfNode = new Node<>(new City("Deggendorf"));
+
+        try {
+            bayreuthNode.addSuccessor(munichNode, new Highway("A9", 233.0d));
+            bayreuthNode.addSuccessor(cologneNode, new Highway("A45", 472.0d));
+            bayreuthNode.addSuccessor(deggendorfNode, new Highway("A93", 233.0d));
+            map.addNode(bayreuthNode);
+
+            deggendorfNode.addSuccessor(munichNode, new Highway("A92", 153.0d));
+            map.addNode(deggendorfNode);
+
+            munichNode.addSuccessor(cologneNode, new Highway("A3", 574.0d));
+            map.addNode(munichNode);
+
+            cologneNode.addSuccessor(berlinNode, new Highway("A2", 575.0d));
+            map.addNode(cologneNode);
+
+            berlinNode.addSuccessor(bayreuthNode, new Highway("A9", 416.0d));
+            map.addNode(berlinNode);
+        } catch (DuplicateNodeException ex) {
+            Logger.getLogger(DeltaSteppingTest.class.getName()).log(Level.SEVERE, null, ex);
+        }
+
+        startNode = bayreuthNode;
+        targetNode = berlinNode;
+        otherStartNode = munichNode;
+    }
+
+    @After
+    public void tearDown() {
+        // empty
+    }
+
+    /**
+     * Test of
+     * {@link DeltaStepping#execute(de.martinkade.graph.Graph, de.martinkade.graph.Node)}.
+     */
+    @Test
+    public void testExecute() {
+        System.out.println(String.format("@%s#testExecute", TAG));
+
+        final Path<City, Highway> path = new DeltaStepping<>(startNode).execute(map, targetNode);
+
+        assertEquals("Bayreuth -> Cologne -> Berlin", path.toString());
+        assertEquals(1047.0d, path.getCosts(), 0.0d);
+        assertEquals("Munich", new DeltaStepping<>(otherStartNode).execute(map, otherStartNode).toString());
+    }
+
+    /**
+     * Test of {@link DeltaStepping#getStatistics()}.
+     */
+    @Test
+    public void testStatistics() {
+        System.out.println(String.format("@%s#testStatistics", TAG));
+
+        final DeltaStepping<City, Highway> strategy = new DeltaStepping<>(startNode);
+        strategy.execute(map, targetNode);
+
+        // every node is removed from its bucket before Berlin's bucket is done
+        assertEquals(5L, strategy.getStatistics().getSettledNodes());
+        assertEquals(0L, strategy.getStatistics().getPolls());
+    }
+
+    /**
+     * Test of {@link DeltaStepping} against {@link Dijkstra} on a random graph
+     * with different bucket widths.
+     *
+     * @throws DuplicateNodeException If the random graph is broken
+     */
+    @Test
+    public void testMatchesDijkstra() throws DuplicateNodeException {
+        System.out.println(String.format("@%s#testMatchesDijkstra", TAG));
+
+        final Random random = new Random(42L);
+        final Graph<Integer, Highway> graph = new Graph<>();
+        final List<Node<Integer, Highway>> nodes = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            final Node<Integer, Highway> node = new Node<>(i);
+            nodes.add(node);
+            graph.addNode(node);
+        }
+        for (int i = 0; i < 25000; i++) {
+            final Node<Integer, Highway> from = nodes.get(random.nextInt(nodes.size()));
+            final Node<Integer, Highway> to = nodes.get(random.nextInt(nodes.size()));
+            if (from != to && !from.hasSuccessor(to)) {
+                from.addSuccessor(to, new Highway("R" + i, random.nextInt(100)));
+            }
+        }
+        final CompactGraph<Integer, Highway> compiled = graph.compile();
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (double delta : new double[]{1.0d, DeltaStepping.delta(compiled), 1e9d}) {
+                for (int i = 0; i < 5; i++) {
+                    final int source = random.nextInt(nodes.size());
+                    assertArrayEquals(Dijkstra.distances(compiled, source),
+                            DeltaStepping.distances(compiled, source, delta, pool), 0.0d);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        for (int i = 0; i < 20; i++) {
+            final Node<Integer, Highway> start = nodes.get(random.nextInt(nodes.size()));
+            final Node<Integer, Highway> target = nodes.get(random.nextInt(nodes.size()));
+
+            final Path<Integer, Highway> expected = new Dijkstra<>(start).execute(compiled, target);
+            final Path<Integer, Highway> path = new DeltaStepping<>(start).execute(compiled, target);
+
+            assertEquals(expected.getCosts(), path.getCosts(), 0.0d);
+            if (path.isFound()) {
+                double costs = 0.0d;
+                for (int j = 1; j < path.size(); j++) {
+                    costs += path.getNodes().get(j - 1).getSuccessors()
+                            .get(path.getNodes().get(j)).numericRepresentation();
+                }
+                assertEquals(path.getCosts(), costs, 1e-9);
+                assertSame(start, path.getNodes().get(0));
+            }
+        }
+    }
+
+    /**
+     * Test of
+     * {@link DeltaStepping#execute(de.martinkade.graph.Graph, de.martinkade.graph.Node)}
+     * on graphs with zero-weight cycles.
+     *
+     * @throws DuplicateNodeException If the test graph is broken
+     */
+    @Test
+    public void testExecuteZeroWeightCycle() throws DuplicateNodeException {
+        System.out.println(String.format("@%s#testExecuteZeroWeightCycle", TAG));
+
+        final Graph<String, Highway> graph = new Graph<>();
+        final Node<String, Highway> y = new Node<>("y");
+        final Node<String, Highway> s = new Node<>("s");
+        final Node<String, Highway> x = new Node<>("x");
+        final Node<String, Highway> t = new Node<>("t");
+        graph.addNode(y);
+        graph.addNode(s);
+        graph.addNode(x);
+        graph.addNode(t);
+        s.addSuccessor(x, new Highway("sx", 1.0d));
+        x.addSuccessor(y, new Highway("xy", 0.0d));
+        y.addSuccessor(x, new Highway("yx", 0.0d));
+        x.addSuccessor(t, new Highway("xt", 0.0d));
+
+        final Path<String, Highway> path = new DeltaStepping<>(s).execute(graph, t);
+        assertEquals("s -> x -> t", path.toString());
+        assertEquals(1.0d, path.getCosts(), 0.0d);
+
+        final Random random = new Random(42L);
+        for (int round = 0; round < 100; round++) {
+            final Graph<Integer, Highway> other = new Graph<>();
+            final List<Node<Integer, Highway>> nodes = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                final Node<Integer, Highway> node = new Node<>(i);
+                nodes.add(node);
+                other.addNode(node);
+            }
+            for (int i = 0; i < 60; i++) {
+                final Node<Integer, Highway> from = nodes.get(random.nextInt(nodes.size()));
+                final Node<Integer, Highway> to = nodes.get(random.nextInt(nodes.size()));
+                if (from != to && !from.hasSuccessor(to)) {
+                    from.addSuccessor(to, new Highway("R" + i, random.nextInt(5)));
+                }
+            }
+            final CompactGraph<Integer, Highway> compiled = other.compile();
+            final Node<Integer, Highway> start = nodes.get(random.nextInt(nodes.size()));
+            for (Node<Integer, Highway> target : nodes) {
+                final Path<Integer, Highway> expected = new Dijkstra<>(start).execute(compiled, target);
+                final Path<Integer, Highway> actual = new DeltaStepping<>(start).execute(compiled, target);
+                assertEquals(expected.getCosts(), actual.getCosts(), 0.0d);
+                if (actual.isFound()) {
+                    double costs = 0.0d;
+                    for (int j = 1; j < actual.size(); j++) {
+                        costs += compiled.getWeight(actual.getEdgeIndex(j - 1));
+                    }
+                    assertEquals(actual.getCosts(), costs, 0.0d);
+                    assertEquals(start.getId(), actual.getNodeId(0));
+                    assertEquals(target.getId(), actual.getNodeId(actual.size() - 1));
+                }
+            }
+        }
+    }
+}
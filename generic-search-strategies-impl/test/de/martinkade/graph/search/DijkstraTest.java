@@ -23,6 +23,7 @@
  */
 package de.martinkade.graph.search;
 
+import de.martinkade.graph.CompactGraph;
 import de.martinkade.graph.DuplicateNodeException;
 import de.martinkade.graph.Graph;
 import de.martinkade.graph.Node;
@@ -30,6 +31,14 @@ import de.martinkade.graph.Path;
 import de.martinkade.graph.search.navigation.City;
 import de.martinkade.graph.search.navigation.Highway;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -39,6 +48,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
 
 /**
  * Test implementations of {@link Dijkstra} strategy.
@@ -63,6 +73,11 @@ public class DijkstraTest {
      */
     private Node<City, Highway> startNode, targetNode;
 
+    /**
+     * Reference to a second start node.
+     */
+    private Node<City, Highway> otherStartNode;
+
     /**
      * Default constructor.
      */
@@ -113,6 +128,7 @@ public class DijkstraTest {
 
         startNode = bayreuthNode;
         targetNode = berlinNode;
+        otherStartNode = munichNode;
     }
 
     @After
@@ -143,4 +159,136 @@ public class DijkstraTest {
                 )
         );
     }
+
+    /**
+     * Test of
+     * {@link Dijkstra#execute(de.martinkade.graph.Graph, de.martinkade.graph.Node)}
+     * with several queries running on the same graph.
+     *
+     * @throws Exception If a query fails
+     */
+    @Test
+    public void testExecuteConcurrently() throws Exception {
+        System.out.println(String.format("@%s#testExecuteConcurrently", TAG));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                final Node<City, Highway> node = i % 2 == 0 ? startNode : otherStartNode;
+                results.add(executor.submit(() -> new Dijkstra<>(node).execute(map, targetNode).toString()));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                final String expResult = i % 2 == 0
+                        ? "Bayreuth -> Cologne -> Berlin"
+                        : "Munich -> Cologne -> Berlin";
+                assertEquals(expResult, results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Test of {@link Strategy#getStatistics()} and
+     * {@link Strategy#setListener(de.martinkade.graph.search.SearchListener)}.
+     */
+    @Test
+    public void testStatistics() {
+        System.out.println(String.format("@%s#testStatistics", TAG));
+
+        final AtomicLong settled = new AtomicLong();
+        final Strategy<City, Highway> dijkstra = new Dijkstra<>(startNode);
+        dijkstra.setListener((strategy, statistics) -> settled.set(statistics.getSettledNodes()));
+        dijkstra.execute(map, targetNode);
+
+        final SearchStatistics statistics = dijkstra.getStatistics();
+        assertEquals(5L, statistics.getSettledNodes());
+        assertEquals(6L, statistics.getRelaxedEdges());
+        assertEquals(5L, statistics.getPushes());
+        assertEquals(5L, statistics.getPolls());
+        assertEquals(0L, statistics.getDecreaseKeys());
+        assertTrue(statistics.getSearchNanos() > 0L);
+        assertEquals(5L, settled.get());
+
+        System.out.println("Statistics: " + statistics);
+    }
+
+    /**
+     * Test of
+     * {@link Dijkstra#executeCosts(de.martinkade.graph.Graph, de.martinkade.graph.Node)}
+     * not allocating memory once warmed up.
+     */
+    @Test
+    public void testExecuteCostsWithoutAllocation() {
+        System.out.println(String.format("@%s#testExecuteCostsWithoutAllocation", TAG));
+
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        final Strategy<City, Highway> dijkstra = new Dijkstra<>(startNode);
+        double costs = 0.0d;
+        for (int i = 0; i < 10000; i++) {
+            costs += dijkstra.executeCosts(map, targetNode);
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        final long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 1000; i++) {
+            costs += dijkstra.executeCosts(map, targetNode);
+        }
+        final long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertEquals(11000 * 1047.0d, costs, 0.0d);
+        // a single allocation per query would show up with at least 16 kB
+        assertTrue(String.format("%d bytes allocated", allocated), allocated < 1024L);
+    }
+
+    /**
+     * Test of {@link Dijkstra} with every {@link QueueType} on the map and on
+     * a random graph with integer and fixed-point weights.
+     *
+     * @throws DuplicateNodeException If the random graph is broken
+     */
+    @Test
+    public void testQueueTypes() throws DuplicateNodeException {
+        System.out.println(String.format("@%s#testQueueTypes", TAG));
+
+        final Random random = new Random(42L);
+        final Graph<Integer, Highway> graph = new Graph<>();
+        final List<Node<Integer, Highway>> nodes = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            final Node<Integer, Highway> node = new Node<>(i);
+            nodes.add(node);
+            graph.addNode(node);
+        }
+        for (int i = 0; i < 10000; i++) {
+            final Node<Integer, Highway> from = nodes.get(random.nextInt(nodes.size()));
+            final Node<Integer, Highway> to = nodes.get(random.nextInt(nodes.size()));
+            if (from != to && !from.hasSuccessor(to)) {
+                from.addSuccessor(to, new Highway("R" + i, random.nextInt(5000) / 4.0d));
+            }
+        }
+        final CompactGraph<Integer, Highway> compiled = graph.compile();
+
+        for (QueueType type : QueueType.values()) {
+            final Path<City, Highway> path = new Dijkstra<>(startNode, type, 1.0d).execute(map, targetNode);
+            assertEquals(type.name(), "Bayreuth -> Cologne -> Berlin", path.toString());
+            assertEquals(1047.0d, path.getCosts(), 0.0d);
+
+            for (int i = 0; i < 5; i++) {
+                final int source = random.nextInt(nodes.size());
+                assertArrayEquals(type.name(), Dijkstra.distances(compiled, source),
+                        Dijkstra.distances(compiled, source, type, 4.0d), 0.0d);
+            }
+
+            final Strategy<Integer, Highway> dijkstra = new Dijkstra<>(nodes.get(0), type, 4.0d);
+            final Node<Integer, Highway> target = nodes.get(1 + random.nextInt(nodes.size() - 1));
+            assertEquals(new Dijkstra<>(nodes.get(0)).executeCosts(compiled, target),
+                    dijkstra.executeCosts(compiled, target), 0.0d);
+            assertTrue(dijkstra.getStatistics().getPolls() > 0L);
+        }
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.CompactGraph;
+import de.martinkade.graph.DuplicateNodeException;
+import de.martinkade.graph.Graph;
+import de.martinkade.graph.Node;
+import de.martinkade.graph.search.navigation.Highway;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test implementations of {@link DistanceMatrix}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public class DistanceMatrixTest {
+
+    /**
+     *
+     */
+    private static final String TAG = DistanceMatrixTest.class.getName();
+
+    /**
+     * The {@link Graph} instance.
+     */
+    private Graph<Integer, Highway> graph;
+
+    /**
+     * The nodes of the graph.
+     */
+    private List<Node<Integer, Highway>> nodes;
+
+    /**
+     * Default constructor.
+     */
+    public DistanceMatrixTest() {
+        // empty
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+        // empty
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        // empty
+    }
+
+    @Before
+    public void setUp() throws DuplicateNodeException {
+        final Random random = new Random(5L);
+        graph = new Graph<>();
+        nodes = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            final Node<Integer, Highway> node = new Node<>(i);
+            nodes.add(node);
+            graph.addNode(node);
+        }
+        for (int i = 0; i < 1000; i++) {
+            final Node<Integer, Highway> from = nodes.get(random.nextInt(nodes.size()));
+            final Node<Integer, Highway> to = nodes.get(random.nextInt(nodes.size()));
+            if (from != to && !from.hasSuccessor(to)) {
+                from.addSuccessor(to, new Highway("R" + i, 1 + random.nextInt(100)));
+            }
+        }
+    }
+
+    @After
+    public void tearDown() {
+        // empty
+    }
+
+    /**
+     * Test of
+     * {@link DistanceMatrix#compute(de.martinkade.graph.Graph, java.util.List, java.util.List)}.
+     */
+    @Test
+    public void testCompute() {
+        System.out.println(String.format("@%s#testCompute", TAG));
+
+        final List<Node<Integer, Highway>> sources = nodes.subList(0, 20);
+        final List<Node<Integer, Highway>> targets = new ArrayList<>(nodes.subList(250, 300));
+        targets.add(nodes.get(260));
+
+        final double[][] matrix = DistanceMatrix.compute(graph, sources, targets);
+
+        final CompactGraph<Integer, Highway> compiled = graph.compile();
+        assertEquals(sources.size(), matrix.length);
+        for (int i = 0; i < sources.size(); i++) {
+            final double[] distances = Dijkstra.distances(compiled, sources.get(i).getId());
+            assertEquals(targets.size(), matrix[i].length);
+            for (int j = 0; j < targets.size(); j++) {
+                assertEquals(distances[targets.get(j).getId()], matrix[i][j], 0.0d);
+            }
+        }
+    }
+}
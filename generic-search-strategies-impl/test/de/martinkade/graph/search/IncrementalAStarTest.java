@@ -0,0 +1,273 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.DuplicateNodeException;
+import de.martinkade.graph.Graph;
+import de.martinkade.graph.Node;
+import de.martinkade.graph.Path;
+import de.martinkade.graph.search.navigation.City;
+import de.martinkade.graph.search.navigation.Highway;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test implementations of {@link IncrementalAStar}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public class IncrementalAStarTest {
+
+    /**
+     *
+     */
+    private static final String TAG = IncrementalAStarTest.class.getName();
+
+    /**
+     * The {@link Graph} instance.
+     */
+    private Graph<City, Highway> map;
+
+    /**
+     * References to the start and target node, respectively.
+     */
+    private Node<City, Highway> startNode, targetNode;
+
+    /**
+     * Reference to a second start node.
+     */
+    private Node<City, Highway> otherStartNode;
+
+    /**
+     * Default constructor.
+     */
+    public IncrementalAStarTest() {
+        // empty
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+        // empty
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        // empty
+    }
+
+    @Before
+    public void setUp() {
+        map = new Graph<>();
+
+        final Node<City, Highway> bayreuthNode = new Node<>(new City("Bayreuth"));
+        final Node<City, Highway> munichNode = new Node<>(new City("Munich"));
+        final Node<City, Highway> cologneNode = new Node<>(new City("Cologne"));
+        final Node<City, Highway> berlinNode = new Node<>(new City("Berlin"));
+        final Node<City, Highway> deggendorfNode = new Node<>(new City("Deggendorf"));
+
+        try {
+            bayreuthNode.addSuccessor(munichNode, new Highway("A9", 233.0d));
+            bayreuthNode.addSuccessor(cologneNode, new Highway("A45", 472.0d));
+            bayreuthNode.addSuccessor(deggendorfNode, new Highway("A93", 233.0d));
+            map.addNode(bayreuthNode);
+
+            deggendorfNode.addSuccessor(munichNode, new Highway("A92", 153.0d));
+            map.addNode(deggendorfNode);
+
+            munichNode.addSuccessor(cologneNode, new Highway("A3", 574.0d));
+            map.addNode(munichNode);
+
+            cologneNode.addSuccessor(berlinNode, new Highway("A2", 575.0d));
+            map.addNode(cologneNode);
+
+            berlinNode.addSuccessor(bayreuthNode, new Highway("A9", 416.0d));
+            map.addNode(berlinNode);
+        } catch (DuplicateNodeException ex) {
+            Logger.getLogger(IncrementalAStarTest.class.getName()).log(Level.SEVERE, null, ex);
+        }
+
+        startNode = bayreuthNode;
+        targetNode = berlinNode;
+        otherStartNode = munichNode;
+    }
+
+    @After
+    public void tearDown() {
+        // empty
+    }
+
+    /**
+     * Test of {@link IncrementalAStar#computePath()}.
+     */
+    @Test
+    public void testComputePath() {
+        System.out.println(String.format("@%s#testComputePath", TAG));
+
+        final IncrementalAStar<City, Highway> search = new IncrementalAStar<>(map, startNode, targetNode);
+        assertEquals("Bayreuth -> Cologne -> Berlin", search.computePath().toString());
+
+        final Node<City, Highway> cologneNode = map.getNode(3);
+        startNode.updateSuccessor(cologneNode, new Highway("A45", 900.0d));
+        Path<City, Highway> path = search.computePath();
+        assertEquals("Bayreuth -> Munich -> Cologne -> Berlin", path.toString());
+        assertEquals(1382.0d, path.getCosts(), 0.0d);
+
+        startNode.updateSuccessor(cologneNode, new Highway("A45", 472.0d));
+        path = search.computePath();
+        assertEquals("Bayreuth -> Cologne -> Berlin", path.toString());
+        assertEquals(1047.0d, path.getCosts(), 0.0d);
+
+        assertEquals(path.toString(), search.computePath().toString());
+        assertEquals(0, search.getExpandedCount());
+    }
+
+    /**
+     * Test of {@link IncrementalAStar#computePath()} after adding an edge.
+     *
+     * @throws DuplicateNodeException If the test graph is broken
+     */
+    @Test
+    public void testComputePathAfterStructureChange() throws DuplicateNodeException {
+        System.out.println(String.format("@%s#testComputePathAfterStructureChange", TAG));
+
+        final IncrementalAStar<City, Highway> search = new IncrementalAStar<>(map, startNode, targetNode);
+        search.computePath();
+
+        startNode.addSuccessor(targetNode, new Highway("A9", 372.0d));
+        assertEquals("Bayreuth -> Berlin", search.computePath().toString());
+    }
+
+    /**
+     * Test of {@link IncrementalAStar#computePath()} against {@link Dijkstra}
+     * on a random graph with changing weights.
+     *
+     * @throws DuplicateNodeException If the random graph is broken
+     */
+    @Test
+    public void testComputePathMatchesDijkstra() throws DuplicateNodeException {
+        System.out.println(String.format("@%s#testComputePathMatchesDijkstra", TAG));
+
+        final Random random = new Random(42L);
+        final Graph<Integer, Highway> graph = new Graph<>();
+        final List<Node<Integer, Highway>> nodes = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            final Node<Integer, Highway> node = new Node<>(i);
+            nodes.add(node);
+            graph.addNode(node);
+        }
+        final List<Node<Integer, Highway>> sources = new ArrayList<>();
+        final List<Node<Integer, Highway>> targets = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            final Node<Integer, Highway> from = nodes.get(random.nextInt(nodes.size()));
+            final Node<Integer, Highway> to = nodes.get(random.nextInt(nodes.size()));
+            if (from != to && !from.hasSuccessor(to)) {
+                from.addSuccessor(to, new Highway("R" + i, 1 + random.nextInt(100)));
+                sources.add(from);
+                targets.add(to);
+            }
+        }
+
+        final List<IncrementalAStar<Integer, Highway>> searches = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            searches.add(new IncrementalAStar<>(graph,
+                    nodes.get(random.nextInt(nodes.size())), nodes.get(random.nextInt(nodes.size()))));
+        }
+
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 5; i++) {
+                final int edge = random.nextInt(sources.size());
+                sources.get(edge).updateSuccessor(targets.get(edge), new Highway("U" + round, 1 + random.nextInt(100)));
+            }
+            for (IncrementalAStar<Integer, Highway> search : searches) {
+                final Path<Integer, Highway> path = search.computePath();
+                final Node<Integer, Highway> start = path.getNodes().get(0);
+                final Node<Integer, Highway> target = path.getNodes().get(path.size() - 1);
+                final double expected = path.isFound()
+                        ? new Dijkstra<>(start).executeCosts(graph, target) : Double.POSITIVE_INFINITY;
+
+                assertEquals(expected, path.getCosts(), 1e-9);
+                if (path.isFound()) {
+                    double costs = 0.0d;
+                    for (int j = 1; j < path.size(); j++) {
+                        costs += path.getNodes().get(j - 1).getSuccessors()
+                                .get(path.getNodes().get(j)).numericRepresentation();
+                    }
+                    assertEquals(path.getCosts(), costs, 1e-9);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test of {@link IncrementalAStar#computePath()} rejecting edges of weight
+     * 0, which could form a zero-weight cycle.
+     *
+     * @throws DuplicateNodeException If the test graph is broken
+     */
+    @Test
+    public void testComputePathZeroWeight() throws DuplicateNodeException {
+        System.out.println(String.format("@%s#testComputePathZeroWeight", TAG));
+
+        final Graph<String, Highway> graph = new Graph<>();
+        final Node<String, Highway> y = new Node<>("y");
+        final Node<String, Highway> s = new Node<>("s");
+        final Node<String, Highway> x = new Node<>("x");
+        final Node<String, Highway> t = new Node<>("t");
+        graph.addNode(y);
+        graph.addNode(s);
+        graph.addNode(x);
+        graph.addNode(t);
+        s.addSuccessor(x, new Highway("sx", 1.0d));
+        x.addSuccessor(y, new Highway("xy", 0.0d));
+        y.addSuccessor(x, new Highway("yx", 0.0d));
+        x.addSuccessor(t, new Highway("xt", 0.0d));
+
+        final IncrementalAStar<String, Highway> search = new IncrementalAStar<>(graph, s, t);
+        try {
+            search.computePath();
+            fail("zero weight accepted");
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+
+        x.updateSuccessor(y, new Highway("xy", 1.0d));
+        y.updateSuccessor(x, new Highway("yx", 1.0d));
+        x.updateSuccessor(t, new Highway("xt", 1.0d));
+        final Path<String, Highway> path = search.computePath();
+        assertEquals("s -> x -> t", path.toString());
+        assertEquals(2.0d, path.getCosts(), 0.0d);
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.CompactGraph;
+import de.martinkade.graph.DuplicateNodeException;
+import de.martinkade.graph.Graph;
+import de.martinkade.graph.Node;
+import de.martinkade.graph.Path;
+import de.martinkade.graph.search.navigation.City;
+import de.martinkade.graph.search.navigation.Highway;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test implementations of {@link KShortestPaths}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public class KShortestPathsTest {
+
+    /**
+     *
+     */
+    private static final String TAG = KShortestPathsTest.class.getName();
+
+    /**
+     * The {@link Graph} instance.
+     */
+    private Graph<City, Highway> map;
+
+    /**
+     * References to the start and target node, respectively.
+     */
+    private Node<City, Highway> startNode, targetNode;
+
+    /**
+     * Default constructor.
+     */
+    public KShortestPathsTest() {
+        // empty
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+        // empty
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        // empty
+    }
+
+    @Before
+    public void setUp() {
+        map = new Graph<>();
+
+        final Node<City, Highway> bayreuthNode = new Node<>(new City("Bayreuth"));
+        final Node<City, Highway> munichNode = new Node<>(new City("Munich"));
+        final Node<City, Highway> cologneNode = new Node<>(new City("Cologne"));
+        final Node<City, Highway> berlinNode = new Node<>(new City("Berlin"));
+        final Node<City, Highway> deggendorfNode = new Node<>(new City("Deggendorf"));
+
+        try {
+            bayreuthNode.addSuccessor(munichNode, new Highway("A9", 233.0d));
+            bayreuthNode.addSuccessor(cologneNode, new Highway("A45", 472.0d));
+            bayreuthNode.addSuccessor(deggendorfNode, new Highway("A93", 233.0d));
+            map.addNode(bayreuthNode);
+
+            deggendorfNode.addSuccessor(munichNode, new Highway("A92", 153.0d));
+            map.addNode(deggendorfNode);
+
+            munichNode.addSuccessor(cologneNode, new Highway("A3", 574.0d));
+            map.addNode(munichNode);
+
+            cologneNode.addSuccessor(berlinNode, new Highway("A2", 575.0d));
+            map.addNode(cologneNode);
+
+            berlinNode.addSuccessor(bayreuthNode, new Highway("A9", 416.0d));
+            map.addNode(berlinNode);
+        } catch (DuplicateNodeException ex) {
+            Logger.getLogger(KShortestPathsTest.class.getName()).log(Level.SEVERE, null, ex);
+        }
+
+        startNode = bayreuthNode;
+        targetNode = berlinNode;
+    }
+
+    @After
+    public void tearDown() {
+        // empty
+    }
+
+    /**
+     * Test of
+     * {@link KShortestPaths#execute(de.martinkade.graph.Node, de.martinkade.graph.Node, int)}.
+     */
+    @Test
+    public void testExecute() {
+        System.out.println(String.format("@%s#testExecute", TAG));
+
+        final KShortestPaths<City, Highway> paths = new KShortestPaths<>(map);
+        final List<Path<City, Highway>> result = paths.execute(startNode, targetNode, 5);
+
+        assertEquals(3, result.size());
+        assertEquals("Bayreuth -> Cologne -> Berlin", result.get(0).toString());
+        assertEquals(1047.0d, result.get(0).getCosts(), 0.0d);
+        assertEquals("Bayreuth -> Munich -> Cologne -> Berlin", result.get(1).toString());
+        assertEquals(1382.0d, result.get(1).getCosts(), 0.0d);
+        assertEquals("Bayreuth -> Deggendorf -> Munich -> Cologne -> Berlin", result.get(2).toString());
+        assertEquals(1535.0d, result.get(2).getCosts(), 0.0d);
+
+        assertEquals(1, paths.execute(startNode, targetNode, 1).size());
+        assertTrue(paths.execute(targetNode, new Node<>(new City("Hof")), 3).isEmpty());
+    }
+
+    /**
+     * Test of
+     * {@link KShortestPaths#execute(de.martinkade.graph.Node, de.martinkade.graph.Node, int)}
+     * against the enumeration of all loopless paths of a small random graph.
+     *
+     * @throws DuplicateNodeException If the random graph is broken
+     */
+    @Test
+    public void testMatchesEnumeration() throws DuplicateNodeException {
+        System.out.println(String.format("@%s#testMatchesEnumeration", TAG));
+
+        final Random random = new Random(42L);
+        final Graph<Integer, Highway> graph = new Graph<>();
+        final List<Node<Integer, Highway>> nodes = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            final Node<Integer, Highway> node = new Node<>(i);
+            nodes.add(node);
+            graph.addNode(node);
+        }
+        for (int i = 0; i < 40; i++) {
+            final Node<Integer, Highway> from = nodes.get(random.nextInt(nodes.size()));
+            final Node<Integer, Highway> to = nodes.get(random.nextInt(nodes.size()));
+            if (from != to && !from.hasSuccessor(to)) {
+                from.addSuccessor(to, new Highway("R" + i, 1 + random.nextInt(100)));
+            }
+        }
+        final CompactGraph<Integer, Highway> compiled = graph.compile();
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final KShortestPaths<Integer, Highway> paths = new KShortestPaths<>(compiled, pool);
+            for (int i = 0; i < 10; i++) {
+                final int start = random.nextInt(nodes.size());
+                final int target = random.nextInt(nodes.size());
+                final List<Double> expected = new ArrayList<>();
+                enumerate(compiled, start, target, new boolean[nodes.size()], 0.0d, expected);
+                expected.sort(null);
+
+                final List<Path<Integer, Highway>> result = paths.execute(nodes.get(start), nodes.get(target), 8);
+                assertEquals(Math.min(8, expected.size()), result.size());
+                for (int j = 0; j < result.size(); j++) {
+                    final int[] ids = result.get(j).getNodeIds();
+                    assertEquals(start, ids[0]);
+                    assertEquals(target, ids[ids.length - 1]);
+                    assertEquals(ids.length, Arrays.stream(ids).distinct().count());
+                    assertEquals(expected.get(j), result.get(j).getCosts(), 0.0d);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Collect the costs of all loopless paths by depth-first search.
+     */
+    private static void enumerate(CompactGraph<Integer, Highway> graph, int node, int target,
+            boolean[] onPath, double costs, List<Double> result) {
+        if (node == target) {
+            result.add(costs);
+            return;
+        }
+        onPath[node] = true;
+        for (int e = graph.firstEdge(node), end = graph.endEdge(node); e < end; e++) {
+            if (!onPath[graph.getTarget(e)]) {
+                enumerate(graph, graph.getTarget(e), target, onPath, costs + graph.getWeight(e), result);
+            }
+        }
+        onPath[node] = false;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.CompactGraph;
+import de.martinkade.graph.DuplicateNodeException;
+import de.martinkade.graph.Graph;
+import de.martinkade.graph.Node;
+import de.martinkade.graph.Path;
+import de.martinkade.graph.search.navigation.Highway;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test implementations of {@link LandmarkEstimator}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public class LandmarkEstimatorTest {
+
+    /**
+     *
+     */
+    private static final String TAG = LandmarkEstimatorTest.class.getName();
+
+    /**
+     * The {@link Graph} instance.
+     */
+    private Graph<Integer, Highway> graph;
+
+    /**
+     * The nodes of the graph.
+     */
+    private List<Node<Integer, Highway>> nodes;
+
+    /**
+     * Default constructor.
+     */
+    public LandmarkEstimatorTest() {
+        // empty
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+        // empty
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        // empty
+    }
+
+    @Before
+    public void setUp() throws DuplicateNodeException {
+        final Random random = new Random(7L);
+        graph = new Graph<>();
+        nodes = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            final Node<Integer, Highway> node = new Node<>(i);
+            nodes.add(node);
+            graph.addNode(node);
+        }
+        for (int i = 0; i < 1600; i++) {
+            final Node<Integer, Highway> from = nodes.get(random.nextInt(nodes.size()));
+            final Node<Integer, Highway> to = nodes.get(random.nextInt(nodes.size()));
+            if (from != to && !from.hasSuccessor(to)) {
+                from.addSuccessor(to, new Highway("R" + i, 1 + random.nextInt(1000) / 10.0d));
+            }
+        }
+    }
+
+    @After
+    public void tearDown() {
+        // empty
+    }
+
+    /**
+     * Test of {@link LandmarkEstimator#estimate(int, int)}.
+     */
+    @Test
+    public void testEstimateIsAdmissible() {
+        System.out.println(String.format("@%s#testEstimateIsAdmissible", TAG));
+
+        final CompactGraph<Integer, Highway> compiled = graph.compile();
+        final LandmarkEstimator<Integer, Highway> estimator = LandmarkEstimator.compute(compiled, 8);
+        assertEquals(8, estimator.getLandmarks().length);
+
+        for (int source = 0; source < compiled.size(); source += 7) {
+            final double[] distances = Dijkstra.distances(compiled, source);
+            for (int target = 0; target < compiled.size(); target++) {
+                assertTrue(estimator.estimate(source, target) <= distances[target]);
+            }
+        }
+    }
+
+    /**
+     * Test of
+     * {@link AStar#execute(de.martinkade.graph.Graph, de.martinkade.graph.Node)}
+     * with a {@link LandmarkEstimator}.
+     */
+    @Test
+    public void testAStarMatchesDijkstra() {
+        System.out.println(String.format("@%s#testAStarMatchesDijkstra", TAG));
+
+        final LandmarkEstimator<Integer, Highway> estimator = LandmarkEstimator.compute(graph.compile(), 4);
+        final Random random = new Random(11L);
+        for (int i = 0; i < 100; i++) {
+            final Node<Integer, Highway> start = nodes.get(random.nextInt(nodes.size()));
+            final Node<Integer, Highway> target = nodes.get(random.nextInt(nodes.size()));
+
+            final Path<Integer, Highway> expected = new Dijkstra<>(start).execute(graph, target);
+            final Path<Integer, Highway> path = new AStar<>(start, estimator).execute(graph, target);
+            assertEquals(expected.getCosts(), path.getCosts(), 1e-9);
+        }
+    }
+
+    /**
+     * Test of {@link LandmarkEstimator#save(java.io.File)} and
+     * {@link LandmarkEstimator#load(java.io.File, de.martinkade.graph.IndexedGraph)}.
+     *
+     * @throws IOException If the landmark file cannot be written or read
+     */
+    @Test
+    public void testSaveAndLoad() throws IOException {
+        System.out.println(String.format("@%s#testSaveAndLoad", TAG));
+
+        final CompactGraph<Integer, Highway> compiled = graph.compile();
+        final LandmarkEstimator<Integer, Highway> estimator = LandmarkEstimator.compute(compiled, 4);
+        final File file = File.createTempFile("landmarks", ".bin");
+        try {
+            estimator.save(file);
+            final LandmarkEstimator<Integer, Highway> loaded = LandmarkEstimator.load(file, compiled);
+
+            assertArrayEquals(estimator.getLandmarks(), loaded.getLandmarks());
+            for (int v = 0; v < compiled.size(); v++) {
+                assertEquals(estimator.estimate(v, 0), loaded.estimate(v, 0), 0.0d);
+            }
+        } finally {
+            file.delete();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test implementations of {@link NodePriorityQueue}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public class NodePriorityQueueTest {
+
+    /**
+     *
+     */
+    private static final String TAG = NodePriorityQueueTest.class.getName();
+
+    /**
+     * The queue under test.
+     */
+    private NodePriorityQueue queue;
+
+    /**
+     * Default constructor.
+     */
+    public NodePriorityQueueTest() {
+        // empty
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+        // empty
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        // empty
+    }
+
+    @Before
+    public void setUp() {
+        queue = new NodePriorityQueue(8);
+    }
+
+    @After
+    public void tearDown() {
+        // empty
+    }
+
+    /**
+     * Test of {@link NodePriorityQueue#decreaseKey(int, double)}.
+     */
+    @Test
+    public void testDecreaseKey() {
+        System.out.println(String.format("@%s#testDecreaseKey", TAG));
+
+        queue.add(0, 5.0d);
+        queue.add(1, 3.0d);
+        queue.add(2, 4.0d);
+        queue.add(3, 9.0d);
+        assertTrue(queue.contains(3));
+        assertFalse(queue.contains(4));
+
+        queue.decreaseKey(3, 1.0d);
+
+        assertEquals(3, queue.poll());
+        assertFalse(queue.contains(3));
+        assertEquals(1, queue.poll());
+        assertEquals(2, queue.poll());
+        assertEquals(0, queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * Test of {@link NodePriorityQueue#clear(int)}.
+     */
+    @Test
+    public void testClear() {
+        System.out.println(String.format("@%s#testClear", TAG));
+
+        queue.add(6, 2.0d);
+        queue.add(7, 1.0d);
+        queue.clear(16);
+
+        assertTrue(queue.isEmpty());
+        assertFalse(queue.contains(6));
+
+        queue.add(15, 3.0d);
+        queue.add(6, 4.0d);
+        assertEquals(15, queue.poll());
+        assertEquals(6, queue.poll());
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.CompactGraph;
+import de.martinkade.graph.DuplicateNodeException;
+import de.martinkade.graph.Graph;
+import de.martinkade.graph.Node;
+import de.martinkade.graph.search.navigation.City;
+import de.martinkade.graph.search.navigation.Road;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test implementations of {@link ParetoSearch}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public class ParetoSearchTest {
+
+    /**
+     *
+     */
+    private static final String TAG = ParetoSearchTest.class.getName();
+
+    /**
+     * The {@link Graph} instance.
+     */
+    private Graph<City, Road> map;
+
+    /**
+     * References to the start and target node, respectively.
+     */
+    private Node<City, Road> startNode, targetNode;
+
+    /**
+     * Default constructor.
+     */
+    public ParetoSearchTest() {
+        // empty
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+        // empty
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        // empty
+    }
+
+    @Before
+    public void setUp() {
+        map = new Graph<>();
+
+        final Node<City, Road> bayreuthNode = new Node<>(new City("Bayreuth"));
+        final Node<City, Road> munichNode = new Node<>(new City("Munich"));
+        final Node<City, Road> cologneNode = new Node<>(new City("Cologne"));
+        final Node<City, Road> berlinNode = new Node<>(new City("Berlin"));
+        final Node<City, Road> deggendorfNode = new Node<>(new City("Deggendorf"));
+
+        try {
+            bayreuthNode.addSuccessor(munichNode, new Road("A9", 233.0d, 2.0d, 0.0d));
+            bayreuthNode.addSuccessor(cologneNode, new Road("A45", 472.0d, 5.0d, 20.0d));
+            bayreuthNode.addSuccessor(deggendorfNode, new Road("A93", 233.0d, 2.5d, 0.0d));
+            map.addNode(bayreuthNode);
+
+            deggendorfNode.addSuccessor(munichNode, new Road("A92", 153.0d, 1.5d, 0.0d));
+            map.addNode(deggendorfNode);
+
+            munichNode.addSuccessor(cologneNode, new Road("A3", 574.0d, 4.5d, 0.0d));
+            map.addNode(munichNode);
+
+            cologneNode.addSuccessor(berlinNode, new Road("A2", 575.0d, 5.5d, 0.0d));
+            map.addNode(cologneNode);
+
+            berlinNode.addSuccessor(bayreuthNode, new Road("A9", 416.0d, 4.0d, 0.0d));
+            map.addNode(berlinNode);
+        } catch (DuplicateNodeException ex) {
+            Logger.getLogger(ParetoSearchTest.class.getName()).log(Level.SEVERE, null, ex);
+        }
+
+        startNode = bayreuthNode;
+        targetNode = berlinNode;
+    }
+
+    @After
+    public void tearDown() {
+        // empty
+    }
+
+    /**
+     * Test of
+     * {@link ParetoSearch#execute(de.martinkade.graph.Node, de.martinkade.graph.Node)}.
+     */
+    @Test
+    public void testExecute() {
+        System.out.println(String.format("@%s#testExecute", TAG));
+
+        final List<ParetoSearch.Route<City, Road>> routes = new ParetoSearch<>(map).execute(startNode, targetNode);
+
+        // the detour via Deggendorf is longer and slower than the one via Munich
+        assertEquals(2, routes.size());
+        assertEquals("Bayreuth -> Cologne -> Berlin", routes.get(0).getPath().toString());
+        assertArrayEquals(new double[]{1047.0d, 10.5d, 20.0d}, routes.get(0).getCosts(), 0.0d);
+        assertEquals("Bayreuth -> Munich -> Cologne -> Berlin", routes.get(1).getPath().toString());
+        assertArrayEquals(new double[]{1382.0d, 12.0d, 0.0d}, routes.get(1).getCosts(), 0.0d);
+        assertEquals(1382.0d, routes.get(1).getPath().getCosts(), 0.0d);
+
+        final List<ParetoSearch.Route<City, Road>> single = new ParetoSearch<>(map.compile(), 1, 0.0d)
+                .execute(startNode, targetNode);
+        assertEquals(1, single.size());
+    }
+
+    /**
+     * Test of
+     * {@link ParetoSearch#execute(de.martinkade.graph.Node, de.martinkade.graph.Node)}
+     * against the Pareto set of all loopless paths of a small random graph.
+     *
+     * @throws DuplicateNodeException If the random graph is broken
+     */
+    @Test
+    public void testMatchesEnumeration() throws DuplicateNodeException {
+        System.out.println(String.format("@%s#testMatchesEnumeration", TAG));
+
+        final Random random = new Random(42L);
+        final Graph<Integer, Road> graph = new Graph<>();
+        final List<Node<Integer, Road>> nodes = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            final Node<Integer, Road> node = new Node<>(i);
+            nodes.add(node);
+            graph.addNode(node);
+        }
+        for (int i = 0; i < 50; i++) {
+            final Node<Integer, Road> from = nodes.get(random.nextInt(nodes.size()));
+            final Node<Integer, Road> to = nodes.get(random.nextInt(nodes.size()));
+            if (from != to && !from.hasSuccessor(to)) {
+                from.addSuccessor(to, new Road("R" + i, 1 + random.nextInt(50),
+                        1 + random.nextInt(50), random.nextInt(3)));
+            }
+        }
+        final CompactGraph<Integer, Road> compiled = graph.compile();
+        final ParetoSearch<Integer, Road> exact = new ParetoSearch<>(graph);
+        final ParetoSearch<Integer, Road> relaxed = new ParetoSearch<>(compiled, Integer.MAX_VALUE, 0.1d);
+        for (int i = 0; i < 10; i++) {
+            final Node<Integer, Road> start = nodes.get(random.nextInt(nodes.size()));
+            final Node<Integer, Road> target = nodes.get(random.nextInt(nodes.size()));
+            final List<double[]> costs = new ArrayList<>();
+            enumerate(compiled, start.getId(), target.getId(), new boolean[nodes.size()], new double[3], costs);
+
+            final Set<List<Double>> expected = new HashSet<>();
+            for (double[] c : costs) {
+                if (costs.stream().noneMatch(other -> dominates(other, c))) {
+                    expected.add(Arrays.asList(c[0], c[1], c[2]));
+                }
+            }
+            final Set<List<Double>> actual = new HashSet<>();
+            final List<ParetoSearch.Route<Integer, Road>> routes = exact.execute(start, target);
+            for (ParetoSearch.Route<Integer, Road> route : routes) {
+                assertEquals(start.getId(), route.getPath().getNodeId(0));
+                assertEquals(target.getId(), route.getPath().getNodeId(route.getPath().size() - 1));
+                actual.add(Arrays.asList(route.getCosts(0), route.getCosts(1), route.getCosts(2)));
+            }
+            assertEquals(expected, actual);
+            assertEquals(expected.size(), routes.size());
+
+            final List<ParetoSearch.Route<Integer, Road>> approximate = relaxed.execute(start, target);
+            assertTrue(approximate.size() <= routes.size());
+            assertEquals(routes.isEmpty(), approximate.isEmpty());
+        }
+    }
+
+    /**
+     * Collect the costs of all loopless paths by depth-first search.
+     */
+    private static void enumerate(CompactGraph<Integer, Road> graph, int node, int target,
+            boolean[] onPath, double[] costs, List<double[]> result) {
+        if (node == target) {
+            result.add(costs.clone());
+            return;
+        }
+        onPath[node] = true;
+        for (int e = graph.firstEdge(node), end = graph.endEdge(node); e < end; e++) {
+            if (!onPath[graph.getTarget(e)]) {
+                final Road road = graph.getCriteria(e);
+                for (int i = 0; i < 3; i++) {
+                    costs[i] += road.getValue(i);
+                }
+                enumerate(graph, graph.getTarget(e), target, onPath, costs, result);
+                for (int i = 0; i < 3; i++) {
+                    costs[i] -= road.getValue(i);
+                }
+            }
+        }
+        onPath[node] = false;
+    }
+
+    private static boolean dominates(double[] a, double[] b) {
+        boolean better = false;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] > b[i]) {
+                return false;
+            }
+            better |= a[i] < b[i];
+        }
+        return better;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test implementations of {@link RadixHeap}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public class RadixHeapTest {
+
+    /**
+     *
+     */
+    private static final String TAG = RadixHeapTest.class.getName();
+
+    /**
+     * The queue under test.
+     */
+    private RadixHeap queue;
+
+    /**
+     * Default constructor.
+     */
+    public RadixHeapTest() {
+        // empty
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+        // empty
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        // empty
+    }
+
+    @Before
+    public void setUp() {
+        queue = new RadixHeap(8, 1.0d);
+    }
+
+    @After
+    public void tearDown() {
+        // empty
+    }
+
+    /**
+     * Test of {@link RadixHeap#decreaseKey(int, double)}.
+     */
+    @Test
+    public void testDecreaseKey() {
+        System.out.println(String.format("@%s#testDecreaseKey", TAG));
+
+        queue.add(0, 5.0d);
+        queue.add(1, 3000.0d);
+        queue.add(2, 40.0d);
+        queue.add(3, 1L << 40);
+        queue.decreaseKey(3, 7.0d);
+        queue.decreaseKey(1, 6.0d);
+
+        assertEquals(0, queue.poll());
+        assertEquals(1, queue.poll());
+        queue.add(4, 6.0d);
+        assertEquals(6.0d, queue.peekKey(), 0.0d);
+        assertEquals(4, queue.poll());
+        assertEquals(3, queue.poll());
+        assertEquals(2, queue.poll());
+        assertTrue(queue.isEmpty());
+        assertEquals(5L, queue.getPushCount());
+        assertEquals(2L, queue.getDecreaseKeyCount());
+    }
+
+    /**
+     * Test of {@link RadixHeap#add(int, double)} with fixed-point keys.
+     */
+    @Test
+    public void testScale() {
+        System.out.println(String.format("@%s#testScale", TAG));
+
+        queue = new RadixHeap(8, 100.0d);
+        queue.add(0, 1.25d);
+        queue.add(1, 1.2d);
+        queue.add(2, 0.01d);
+        assertEquals(2, queue.poll());
+        assertEquals(1, queue.poll());
+        assertEquals(0, queue.poll());
+
+        try {
+            queue.add(3, 1.0d);
+            fail("key below the last polled key");
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        queue.clear(8);
+        queue.add(3, 1.0d);
+        assertEquals(3, queue.poll());
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 martinkade.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.martinkade.graph.search;
+
+import de.martinkade.graph.DuplicateNodeException;
+import de.martinkade.graph.Graph;
+import de.martinkade.graph.Node;
+import de.martinkade.graph.Path;
+import de.martinkade.graph.search.navigation.City;
+import de.martinkade.graph.search.navigation.Highway;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test implementations of {@link RouteCache}.
+ *
+ * @author martinkade
+ * @version 2026-10-17
+ */
+public class RouteCacheTest {
+
+    /**
+     *
+     */
+    private static final String TAG = RouteCacheTest.class.getName();
+
+    /**
+     * The {@link Graph} instance.
+     */
+    private Graph<City, Highway> map;
+
+    /**
+     * References to the start and target node, respectively.
+     */
+    private Node<City, Highway> startNode, targetNode;
+
+    /**
+     * Reference to a second start node.
+     */
+    private Node<City, Highway> otherStartNode;
+
+    /**
+     * Default constructor.
+     */
+    public RouteCacheTest() {
+        // empty
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+        // empty
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        // empty
+    }
+
+    @Before
+    public void setUp() {
+        map = new Graph<>();
+
+        final Node<City, Highway> bayreuthNode = new Node<>(new City("Bayreuth"));
+        final Node<City, Highway> munichNode = new Node<>(new City("Munich"));
+        final Node<City, Highway> cologneNode = new Node<>(new City("Cologne"));
+        final Node<City, Highway> berlinNode = new Node<>(new City("Berlin"));
+        final Node<City, Highway> deggendorfNode = new Node<>(new City("Deggendorf"));
+
+        try {
+            bayreuthNode.addSuccessor(munichNode, new Highway("A9", 233.0d));
+            bayreuthNode.addSuccessor(cologneNode, new Highway("A45", 472.0d));
+            bayreuthNode.addSuccessor(deggendorfNode, new Highway("A93", 233.0d));
+            map.addNode(bayreuthNode);
+
+            deggendorfNode.addSuccessor(munichNode, new Highway("A92", 153.0d));
+            map.addNode(deggendorfNode);
+
+            munichNode.addSuccessor(cologneNode, new Highway("A3", 574.0d));
+            map.addNode(munichNode);
+
+            cologneNode.addSuccessor(berlinNode, new Highway("A2", 575.0d));
+            map.addNode(cologneNode);
+
+            berlinNode.addSuccessor(bayreuthNode, new Highway("A9", 416.0d));
+            map.addNode(berlinNode);
+        } catch (DuplicateNodeException ex) {
+            Logger.getLogger(RouteCacheTest.class.getName()).log(Level.SEVERE, null, ex);
+        }
+
+        startNode = bayreuthNode;
+        targetNode = berlinNode;
+        otherStartNode = munichNode;
+    }
+
+    @After
+    public void tearDown() {
+        // empty
+    }
+
+    /**
+     * Test of
+     * {@link RouteCache#execute(de.martinkade.graph.Node, de.martinkade.graph.Node, java.lang.String, java.util.function.Function)}.
+     */
+    @Test
+    public void testExecute() {
+        System.out.println(String.format("@%s#testExecute", TAG));
+
+        final RouteCache<City, Highway> cache = new RouteCache<>(map, 16);
+
+        final Path<City, Highway> path = cache.execute(startNode, targetNode, "dijkstra", Dijkstra::new);
+        assertEquals("Bayreuth -> Cologne -> Berlin", path.toString());
+        assertSame(path, cache.execute(startNode, targetNode, "dijkstra", Dijkstra::new));
+        assertNotSame(path, cache.execute(startNode, targetNode, "bfs", BreadthFirst::new));
+        cache.execute(otherStartNode, targetNode, "dijkstra", Dijkstra::new);
+
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(3L, cache.getMissCount());
+        assertEquals(3, cache.size());
+        assertEquals(0.25d, cache.getHitRate(), 0.0d);
+    }
+
+    /**
+     * Test of a {@link RouteCache} dropping its paths once the graph changes.
+     *
+     * @throws DuplicateNodeException If the test graph is broken
+     */
+    @Test
+    public void testInvalidate() throws DuplicateNodeException {
+        System.out.println(String.format("@%s#testInvalidate", TAG));
+
+        final RouteCache<City, Highway> cache = new RouteCache<>(map, 16);
+        assertEquals(1047.0d, cache.execute(startNode, targetNode, "dijkstra", Dijkstra::new).getCosts(), 0.0d);
+
+        startNode.addSuccessor(targetNode, new Highway("A9", 372.0d));
+
+        final Path<City, Highway> path = cache.execute(startNode, targetNode, "dijkstra", Dijkstra::new);
+        assertEquals("Bayreuth -> Berlin", path.toString());
+        assertEquals(0L, cache.getHitCount());
+        assertEquals(1, cache.size());
+    }
+
+    /**
+     * Test of a {@link RouteCache} evicting the least recently used paths.
+     */
+    @Test
+    public void testEvict() {
+        System.out.println(String.format("@%s#testEvict", TAG));
+
+        final RouteCache<City, Highway> cache = new RouteCache<>(map, 1);
+        cache.execute(startNode, targetNode, "dijkstra", Dijkstra::new);
+        cache.execute(otherStartNode, targetNode, "dijkstra", Dijkstra::new);
+        cache.execute(startNode, targetNode, "dijkstra", Dijkstra::new);
+
+        assertEquals(1, cache.size());
+        assertEquals(0L, cache.getHitCount());
+        assertEquals(2L, cache.getEvictionCount());
+    }
+}